@@ -0,0 +1,51 @@
+package com.contract.backend.common.Entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 블록체인 이벤트 구독, 정합성 점검 등 순차적으로 진행되는 작업의 재시작 지점
+@Entity
+@Table(name = "blockchain_checkpoints")
+public class BlockchainCheckpointEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    // 작업별 진행 위치 (이벤트 구독: 다음에 읽을 블록 번호, 정합성 점검: 마지막으로 점검한 blockchain_records.id)
+    @Column(name = "position", nullable = false)
+    private long position;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected BlockchainCheckpointEntity() {}
+
+    public BlockchainCheckpointEntity(String name, long position) {
+        this.name      = name;
+        this.position  = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // getters & setters …
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.contract.backend.common.Entity;
 
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -7,7 +8,8 @@ import java.time.LocalDateTime;
 @Table(name = "blockchain_records",
         indexes = {
                 @Index(name = "idx_br_cv", columnList = "contract_version_id"),
-                @Index(name = "idx_br_recorded_at", columnList = "recorded_at")
+                @Index(name = "idx_br_recorded_at", columnList = "recorded_at"),
+                @Index(name = "idx_br_tx_hash", columnList = "tx_hash")
         })
 public class BlockchainRecordEntity {
 
@@ -27,6 +29,18 @@ public class BlockchainRecordEntity {
     @Column(name = "recorded_at", nullable = false)
     private LocalDateTime recordedAt;
 
+    // 피어의 블록 이벤트로 확인된 커밋 상태 (기존 행은 PENDING으로 채워짐)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "anchor_status", nullable = false, length = 20,
+            columnDefinition = "varchar(20) default 'PENDING'")
+    private AnchorStatus anchorStatus;
+
+    @Column(name = "block_number")
+    private Long blockNumber;
+
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
     protected BlockchainRecordEntity() {}
 
     public BlockchainRecordEntity(
@@ -38,6 +52,7 @@ public class BlockchainRecordEntity {
         this.metadataHash    = metadataHash;
         this.txHash          = txHash;
         this.recordedAt      = LocalDateTime.now();
+        this.anchorStatus    = AnchorStatus.PENDING;
     }
 
     // getters & setters …
@@ -81,4 +96,28 @@ public class BlockchainRecordEntity {
     public void setRecordedAt(LocalDateTime recordedAt) {
         this.recordedAt = recordedAt;
     }
+
+    public AnchorStatus getAnchorStatus() {
+        return anchorStatus;
+    }
+
+    public void setAnchorStatus(AnchorStatus anchorStatus) {
+        this.anchorStatus = anchorStatus;
+    }
+
+    public Long getBlockNumber() {
+        return blockNumber;
+    }
+
+    public void setBlockNumber(Long blockNumber) {
+        this.blockNumber = blockNumber;
+    }
+
+    public LocalDateTime getConfirmedAt() {
+        return confirmedAt;
+    }
+
+    public void setConfirmedAt(LocalDateTime confirmedAt) {
+        this.confirmedAt = confirmedAt;
+    }
 }
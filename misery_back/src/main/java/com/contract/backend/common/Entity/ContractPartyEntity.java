@@ -2,9 +2,13 @@ package com.contract.backend.common.Entity;
 
 import com.contract.backend.common.Entity.enumm.PartyRole;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
+// 참여자 행은 추가 후 바뀌지 않음 (2차 캐시)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "contractParties")
 @Table(name = "contract_parties",
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_party_contract",
@@ -15,7 +19,11 @@ import java.time.LocalDateTime;
         })
 public class ContractPartyEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 계약 업로드마다 여러 행이 들어가므로 JDBC 배치가 가능한 풀링 테이블 생성기 사용 (IDENTITY 는 배치 불가)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "contract_parties_seq")
+    @TableGenerator(name = "contract_parties_seq", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "contract_parties", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+// 서명 카운터/상태가 계속 바뀌고 닫힌 버전만 골라 캐시할 수 없으므로 2차 캐시 대상에서 제외
 @Entity
 @Table(name = "contract_versions",
         uniqueConstraints = @UniqueConstraint(
@@ -48,6 +49,18 @@ public class ContractVersionEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 서명 완료 판정용 카운터 (0 이면 아직 집계 전인 기존 행 → 서명 시 지연 백필)
+    @Column(name = "required_signer_count", nullable = false, columnDefinition = "int default 0")
+    private int requiredSignerCount;
+
+    @Column(name = "collected_signer_count", nullable = false, columnDefinition = "int default 0")
+    private int collectedSignerCount;
+
+    // 카운터/상태를 JPQL 로 갱신할 때도 함께 증가시켜 엔티티 단위 갱신과의 충돌을 감지
+    @Version
+    @Column(name = "lock_version", nullable = false, columnDefinition = "bigint default 0")
+    private Long lockVersion;
+
     protected ContractVersionEntity() {}
 
     public ContractVersionEntity(
@@ -138,5 +151,25 @@ public class ContractVersionEntity {
         this.createdAt = createdAt;
     }
 
+    public int getRequiredSignerCount() {
+        return requiredSignerCount;
+    }
+
+    public void setRequiredSignerCount(int requiredSignerCount) {
+        this.requiredSignerCount = requiredSignerCount;
+    }
+
+    public int getCollectedSignerCount() {
+        return collectedSignerCount;
+    }
+
+    public void setCollectedSignerCount(int collectedSignerCount) {
+        this.collectedSignerCount = collectedSignerCount;
+    }
+
+    public Long getLockVersion() {
+        return lockVersion;
+    }
+
 
 }
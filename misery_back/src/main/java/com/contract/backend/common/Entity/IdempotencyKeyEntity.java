@@ -0,0 +1,122 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.IdempotencyStatus;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Idempotency-Key 헤더로 들어온 요청의 처리 상태와 응답 (사용자별 키 단위로 한 번만 실행)
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_idem_user_key",
+                columnNames = {"user_id", "idem_key"}),
+        indexes = @Index(name = "idx_idem_created_at", columnList = "created_at"))
+public class IdempotencyKeyEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @Column(name = "idem_key", nullable = false, length = 100)
+    private String idemKey;
+
+    // 같은 키로 다른 요청을 보내는 경우를 구분하기 위한 요청 식별 값 (예: "sign:42")
+    @Column(name = "request_fingerprint", nullable = false, length = 200)
+    private String requestFingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    protected IdempotencyKeyEntity() {}
+
+    public IdempotencyKeyEntity(
+            UserEntity user,
+            String idemKey,
+            String requestFingerprint
+    ) {
+        this.user               = user;
+        this.idemKey            = idemKey;
+        this.requestFingerprint = requestFingerprint;
+        this.status             = IdempotencyStatus.IN_PROGRESS;
+        this.createdAt          = LocalDateTime.now();
+    }
+
+    // getters & setters …
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserEntity getUser() {
+        return user;
+    }
+
+    public void setUser(UserEntity user) {
+        this.user = user;
+    }
+
+    public String getIdemKey() {
+        return idemKey;
+    }
+
+    public void setIdemKey(String idemKey) {
+        this.idemKey = idemKey;
+    }
+
+    public String getRequestFingerprint() {
+        return requestFingerprint;
+    }
+
+    public void setRequestFingerprint(String requestFingerprint) {
+        this.requestFingerprint = requestFingerprint;
+    }
+
+    public IdempotencyStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(IdempotencyStatus status) {
+        this.status = status;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
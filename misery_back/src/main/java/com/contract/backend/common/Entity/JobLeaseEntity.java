@@ -0,0 +1,50 @@
+package com.contract.backend.common.Entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 여러 노드에서 동시에 돌면 안 되는 스케줄 작업의 점유 정보 (JobLeaseService)
+@Entity
+@Table(name = "job_leases")
+public class JobLeaseEntity {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    // 점유한 노드 (호스트명 + 프로세스별 난수)
+    @Column(name = "owner", length = 200)
+    private String owner;
+
+    // 이 시각이 지나면 다른 노드가 가져갈 수 있음
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    protected JobLeaseEntity() {}
+
+    public JobLeaseEntity(String name, String owner, LocalDateTime lockedUntil) {
+        this.name        = name;
+        this.owner       = owner;
+        this.lockedUntil = lockedUntil;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+}
@@ -0,0 +1,89 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.DiscrepancyType;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 정합성 점검 작업이 발견한 DB-원장 불일치
+@Entity
+@Table(name = "ledger_discrepancies",
+        indexes = {
+                @Index(name = "idx_ld_record", columnList = "blockchain_record_id"),
+                @Index(name = "idx_ld_cv", columnList = "contract_version_id"),
+                @Index(name = "idx_ld_open", columnList = "resolved_at, detected_at")
+        })
+public class LedgerDiscrepancyEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "blockchain_record_id", nullable = false)
+    private BlockchainRecordEntity blockchainRecord;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "contract_version_id", nullable = false)
+    private ContractVersionEntity contractVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DiscrepancyType type;
+
+    @Column(columnDefinition = "TEXT")
+    private String details;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    // 확인/조치 완료 시각 (미해결이면 null)
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    protected LedgerDiscrepancyEntity() {}
+
+    public LedgerDiscrepancyEntity(
+            BlockchainRecordEntity blockchainRecord,
+            DiscrepancyType type,
+            String details
+    ) {
+        this.blockchainRecord = blockchainRecord;
+        this.contractVersion  = blockchainRecord.getContractVersion();
+        this.type             = type;
+        this.details          = details;
+        this.detectedAt       = LocalDateTime.now();
+    }
+
+    // getters & setters …
+
+    public Long getId() {
+        return id;
+    }
+
+    public BlockchainRecordEntity getBlockchainRecord() {
+        return blockchainRecord;
+    }
+
+    public ContractVersionEntity getContractVersion() {
+        return contractVersion;
+    }
+
+    public DiscrepancyType getType() {
+        return type;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+
+    public LocalDateTime getResolvedAt() {
+        return resolvedAt;
+    }
+
+    public void setResolvedAt(LocalDateTime resolvedAt) {
+        this.resolvedAt = resolvedAt;
+    }
+}
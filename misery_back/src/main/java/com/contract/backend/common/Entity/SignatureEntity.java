@@ -4,9 +4,13 @@ import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
+// 서명은 한 번 기록되면 변경되지 않음 (2차 캐시, 일괄 서명의 JDBC INSERT 는 캐시에 영향 없음)
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "signatures")
 @Table(name = "signatures",
         uniqueConstraints = @UniqueConstraint(
                 name = "uk_sig_cv_signer",
@@ -0,0 +1,141 @@
+package com.contract.backend.common.Entity;
+
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 사용자별 계약 목록 인덱스 (사용자-계약당 한 행). 계약/참여자/서명 변경과 같은 트랜잭션에서 갱신되며,
+// 내 계약 목록·상태 필터·내 서명 대기 목록을 contracts/contract_parties 조인 없이 user_id 인덱스 범위 스캔으로 조회
+@Entity
+@Table(name = "user_contract_index",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_uci_user_contract",
+                columnNames = {"user_id", "contract_id"}),
+        indexes = {
+                @Index(name = "idx_uci_user_created", columnList = "user_id, contract_created_at, contract_id"),
+                @Index(name = "idx_uci_user_status_created", columnList = "user_id, contract_status, contract_created_at, contract_id"),
+                @Index(name = "idx_uci_user_awaiting_created", columnList = "user_id, awaiting_signature, contract_created_at, contract_id"),
+                @Index(name = "idx_uci_contract", columnList = "contract_id")
+        })
+public class UserContractIndexEntity {
+
+    // 계약 업로드마다 여러 행이 들어가므로 JDBC 배치가 가능한 풀링 테이블 생성기 사용 (IDENTITY 는 배치 불가)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_contract_index_seq")
+    @TableGenerator(name = "user_contract_index_seq", table = "id_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user_contract_index", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private UserEntity user;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "contract_id", nullable = false)
+    private ContractEntity contract;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PartyRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "contract_status", nullable = false, length = 20)
+    private ContractStatus contractStatus;
+
+    // 목록 정렬 키 (contracts.created_at 복사본)
+    @Column(name = "contract_created_at", nullable = false)
+    private LocalDateTime contractCreatedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 현재 버전이 서명 대기 중이고 이 사용자가 아직 서명하지 않음
+    @Column(name = "awaiting_signature", nullable = false)
+    private boolean awaitingSignature;
+
+    protected UserContractIndexEntity() {}
+
+    public UserContractIndexEntity(
+            UserEntity user,
+            ContractEntity contract,
+            PartyRole role,
+            ContractStatus contractStatus,
+            LocalDateTime contractCreatedAt,
+            boolean awaitingSignature
+    ) {
+        this.user              = user;
+        this.contract          = contract;
+        this.role              = role;
+        this.contractStatus    = contractStatus;
+        this.contractCreatedAt = contractCreatedAt;
+        this.updatedAt         = LocalDateTime.now();
+        this.awaitingSignature = awaitingSignature;
+    }
+
+    // getters & setters …
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UserEntity getUser() {
+        return user;
+    }
+
+    public void setUser(UserEntity user) {
+        this.user = user;
+    }
+
+    public ContractEntity getContract() {
+        return contract;
+    }
+
+    public void setContract(ContractEntity contract) {
+        this.contract = contract;
+    }
+
+    public PartyRole getRole() {
+        return role;
+    }
+
+    public void setRole(PartyRole role) {
+        this.role = role;
+    }
+
+    public ContractStatus getContractStatus() {
+        return contractStatus;
+    }
+
+    public void setContractStatus(ContractStatus contractStatus) {
+        this.contractStatus = contractStatus;
+    }
+
+    public LocalDateTime getContractCreatedAt() {
+        return contractCreatedAt;
+    }
+
+    public void setContractCreatedAt(LocalDateTime contractCreatedAt) {
+        this.contractCreatedAt = contractCreatedAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public boolean isAwaitingSignature() {
+        return awaitingSignature;
+    }
+
+    public void setAwaitingSignature(boolean awaitingSignature) {
+        this.awaitingSignature = awaitingSignature;
+    }
+}
@@ -0,0 +1,7 @@
+package com.contract.backend.common.Entity.enumm;
+
+public enum AnchorStatus {
+    PENDING,
+    CONFIRMED,
+    INVALID
+}
@@ -0,0 +1,9 @@
+package com.contract.backend.common.Entity.enumm;
+
+public enum DiscrepancyType {
+    MISSING_ON_LEDGER,    // DB에는 기록이 있으나 원장에 값이 없음
+    HASH_MISMATCH,        // DB의 metadataHash 와 원장 바이트의 해시가 다름
+    DATA_MISMATCH,        // 현재 DB 상태(파일 해시, 서명 등)와 원장 메타데이터가 다름
+    METADATA_UNREADABLE,  // 원장 값을 메타데이터로 해석할 수 없음
+    ANCHOR_INVALID        // 앵커링 트랜잭션이 INVALID 로 커밋됨
+}
@@ -0,0 +1,6 @@
+package com.contract.backend.common.Entity.enumm;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
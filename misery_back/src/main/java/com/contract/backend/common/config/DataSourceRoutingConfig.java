@@ -0,0 +1,135 @@
+package com.contract.backend.common.config;
+
+import com.contract.backend.common.datasource.ReadWriteRoutingDataSource;
+import com.contract.backend.common.datasource.ReadYourWritesTracker;
+import com.contract.backend.common.datasource.ReplicaLagMonitor;
+import com.contract.backend.common.datasource.ReplicaNode;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅. datasource.replica.urls 를 지정한 경우에만 활성화되며,
+ * 지정하지 않으면 스프링 부트 기본 데이터소스(spring.datasource) 하나만 사용합니다.
+ *
+ * JPA/JdbcTemplate 이 쓰는 기본 데이터소스는 LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource) 입니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "urls")
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.maximumPoolSize:10}")
+    private int replicaMaximumPoolSize;
+
+    // 이보다 뒤처진 복제본은 읽기 대상에서 제외
+    @Value("${datasource.replica.maxLagSeconds:3}")
+    private long maxLagSeconds;
+
+    @Value("${datasource.replica.lagCheckIntervalMs:2000}")
+    private long lagCheckIntervalMs;
+
+    // 마지막 지연 측정이 이보다 오래되면 복제본을 사용하지 않음 (측정 주기보다 충분히 길게)
+    @Value("${datasource.replica.maxSampleAgeMs:10000}")
+    private long maxSampleAgeMs;
+
+    // 쓰기 후 해당 사용자의 읽기를 프라이머리로 보내는 시간 (maxLagSeconds 보다 길어야 함)
+    @Value("${datasource.replica.stickySeconds:10}")
+    private long stickySeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        List<ReplicaNode> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url == null || url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(url.trim());
+            dataSource.setUsername(replicaUsername);
+            dataSource.setPassword(replicaPassword);
+            dataSource.setDriverClassName(properties.determineDriverClassName());
+            dataSource.setMaximumPoolSize(replicaMaximumPoolSize);
+            dataSource.setReadOnly(true);
+            // 기동 시 복제본이 내려가 있어도 애플리케이션은 뜨도록 (지연 측정에서 제외됨)
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaNode(name, dataSource));
+        }
+        if (replicas.isEmpty()) {
+            logger.warn("datasource.replica.urls has no usable URL; all reads go to the primary");
+        }
+        return new ReplicaLagMonitor(replicas, lagCheckIntervalMs, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(StringRedisTemplate redisTemplate) {
+        return new ReadYourWritesTracker(redisTemplate, Duration.ofSeconds(stickySeconds));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaLagMonitor.getReplicas().forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                replicaLagMonitor.getReplicas(), readYourWritesTracker, maxLagSeconds, maxSampleAgeMs);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 기본 설정(DELAYED_ACQUISITION_AND_HOLD)은 OSIV 세션이 처음 얻은 커넥션을 요청 끝까지 잡고 있어,
+     * 읽기 전용 트랜잭션 다음의 쓰기가 복제본 커넥션을 쓰게 됩니다. 트랜잭션마다 커넥션을 반납하여 매번 라우팅합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
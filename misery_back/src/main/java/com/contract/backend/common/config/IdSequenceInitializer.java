@@ -0,0 +1,74 @@
+package com.contract.backend.common.config;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 풀링 테이블 생성기(id_sequences)를 기존 AUTO_INCREMENT 데이터 이후로 맞춥니다.
+ *
+ * IDENTITY 에서 전환한 테이블은 이미 행이 있으므로, 생성기 행이 없거나 뒤처져 있으면 기존 ID 와 겹치게 됩니다.
+ * pooled 최적화기는 읽은 값 N 에 대해 (N - allocationSize, N] 구간을 쓰므로 MAX(id) + allocationSize 이상으로 올립니다.
+ * 요청을 받기 전에 실행되도록 스키마 갱신(EntityManagerFactory 초기화) 직후 빈 초기화 단계에서 수행하며, 실패하면 기동하지 않습니다.
+ * 특정 DB 방언에 기대지 않도록 UPDATE 후 갱신된 행이 없을 때만 INSERT 합니다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+    private static final int ALLOCATION_SIZE = 50;
+
+    // 생성기 pkColumnValue 는 테이블 이름과 같음 (엔티티의 @TableGenerator 와 일치해야 함)
+    // signatures 는 JDBC 배치 INSERT 가 AUTO_INCREMENT 에 의존하고, contract_versions 는 요청당 한 건만 저장하므로 IDENTITY 유지
+    private static final List<String> TABLES = List.of("contract_parties", "user_contract_index");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        for (String table : TABLES) {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                alignSequence(table, (maxId != null ? maxId : 0L) + ALLOCATION_SIZE);
+            } catch (Exception e) {
+                // 맞추지 못한 채 기동하면 새 행이 기존 ID 와 충돌하므로 기동을 중단
+                logger.error("Failed to align id sequence for table {}: {}", table, e.getMessage());
+                throw new IllegalStateException("Failed to align id sequence for table " + table, e);
+            }
+        }
+    }
+
+    private void alignSequence(String sequenceName, long minNextVal) {
+        if (raiseIfBehind(sequenceName, minNextVal)) {
+            return;
+        }
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM id_sequences WHERE sequence_name = ?", Integer.class, sequenceName);
+        if (existing != null && existing > 0) {
+            return; // 이미 충분히 앞서 있음
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, ?)", sequenceName, minNextVal);
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 동시에 행을 만든 경우: 그 값이 뒤처져 있으면 다시 올림
+            raiseIfBehind(sequenceName, minNextVal);
+        }
+    }
+
+    private boolean raiseIfBehind(String sequenceName, long minNextVal) {
+        return jdbcTemplate.update(
+                "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                minNextVal, sequenceName, minNextVal) > 0;
+    }
+}
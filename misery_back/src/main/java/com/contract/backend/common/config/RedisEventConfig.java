@@ -0,0 +1,38 @@
+package com.contract.backend.common.config;
+
+import com.contract.backend.service.ContractAccessCache;
+import com.contract.backend.service.ContractEventStreamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 계약 이벤트 Redis 채널 구독. 모든 노드가 같은 채널을 구독하여 각자 연결된 SSE 클라이언트에게 전달합니다.
+ * 접근 권한 캐시 무효화 채널도 같은 컨테이너에서 구독합니다.
+ */
+@Configuration
+public class RedisEventConfig {
+
+    @Bean
+    public RedisMessageListenerContainer contractEventListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            ContractEventStreamService streamService,
+            ContractAccessCache accessCache,
+            @Value("${events.sse.channel:contract-events}") String channel,
+            @Value("${contract.acl.channel:contract-acl-invalidation}") String aclChannel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> streamService.dispatch(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+        container.addMessageListener(
+                (message, pattern) -> accessCache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(aclChannel));
+        return container;
+    }
+}
@@ -2,6 +2,7 @@ package com.contract.backend.common.config;
 
 import com.contract.backend.common.util.jwt.JwtAuthenticationFilter;
 import com.contract.backend.common.util.jwt.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,7 +24,9 @@ public class SecurityConfig {
             .and()
             .csrf().disable()
             .authorizeHttpRequests()
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 스트리밍 응답의 비동기 디스패치 (최초 요청에서 이미 인증됨)
             .requestMatchers("/auth/**").permitAll()
+            .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // 헬스 체크 (세부 상태는 인증된 요청에만 노출)
             .requestMatchers("/api/users/search").authenticated()
             .requestMatchers("/api/contracts/files/preview/**").authenticated() // 파일 미리보기 경로 추가
             .requestMatchers("/api/contracts/files/download/**").authenticated() // 파일 다운로드 경로 추가
@@ -43,7 +46,7 @@ public class SecurityConfig {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("https://localhost:5173")); // React 개발 서버
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Content-Type","X-XSRF-TOKEN","Authorization", "Range")); // Range 헤더 추가
+        configuration.setAllowedHeaders(List.of("Content-Type","X-XSRF-TOKEN","Authorization", "Range", "Idempotency-Key")); // Range, Idempotency-Key 헤더 추가
         configuration.setAllowCredentials(true);
         configuration.setExposedHeaders(List.of("Content-Range", "Accept-Ranges", "Content-Length")); // Range 관련 헤더 노출
 
@@ -0,0 +1,85 @@
+package com.contract.backend.common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * simulated-ledger 프로파일에서 사용하는 인프로세스 원장 설정.
+ * 지연 시간은 밀리초 단위이며, 실패율은 0.0 ~ 1.0 사이의 확률입니다.
+ */
+@Configuration
+@Profile("simulated-ledger")
+@ConfigurationProperties(prefix = "simulated-ledger")
+public class SimulatedLedgerProperties {
+
+    // 엔도스먼트(체인코드 시뮬레이션) 지연
+    private long endorseLatencyMs = 50;
+
+    // 제출 후 블록 커밋까지의 지연
+    private long commitLatencyMs = 2000;
+
+    // 조회(evaluate) 지연
+    private long evaluateLatencyMs = 10;
+
+    // 모든 지연에 더해지는 0 ~ jitter 범위의 무작위 지연
+    private long latencyJitterMs = 0;
+
+    private double endorseFailureRate = 0.0;
+
+    // 커밋 단계에서 INVALID(MVCC 충돌 등)로 끝나는 비율
+    private double commitFailureRate = 0.0;
+
+    private double evaluateFailureRate = 0.0;
+
+    // 초당 제출 가능한 트랜잭션 수 (0 이하면 제한 없음)
+    private int maxTransactionsPerSecond = 0;
+
+    // 동시에 엔도스먼트 중일 수 있는 트랜잭션 수 (0 이하면 제한 없음)
+    private int maxInFlight = 0;
+
+    // 블록 하나에 담기는 최대 트랜잭션 수
+    private int maxBlockSize = 500;
+
+    // 지정하면 커밋된 상태를 이 디렉터리에 기록하고 재시작 시 복원
+    private String dataDir;
+
+    // 실패 주입 재현용 난수 시드 (0이면 매번 다름)
+    private long randomSeed = 0;
+
+    public long getEndorseLatencyMs() { return endorseLatencyMs; }
+    public void setEndorseLatencyMs(long endorseLatencyMs) { this.endorseLatencyMs = endorseLatencyMs; }
+
+    public long getCommitLatencyMs() { return commitLatencyMs; }
+    public void setCommitLatencyMs(long commitLatencyMs) { this.commitLatencyMs = commitLatencyMs; }
+
+    public long getEvaluateLatencyMs() { return evaluateLatencyMs; }
+    public void setEvaluateLatencyMs(long evaluateLatencyMs) { this.evaluateLatencyMs = evaluateLatencyMs; }
+
+    public long getLatencyJitterMs() { return latencyJitterMs; }
+    public void setLatencyJitterMs(long latencyJitterMs) { this.latencyJitterMs = latencyJitterMs; }
+
+    public double getEndorseFailureRate() { return endorseFailureRate; }
+    public void setEndorseFailureRate(double endorseFailureRate) { this.endorseFailureRate = endorseFailureRate; }
+
+    public double getCommitFailureRate() { return commitFailureRate; }
+    public void setCommitFailureRate(double commitFailureRate) { this.commitFailureRate = commitFailureRate; }
+
+    public double getEvaluateFailureRate() { return evaluateFailureRate; }
+    public void setEvaluateFailureRate(double evaluateFailureRate) { this.evaluateFailureRate = evaluateFailureRate; }
+
+    public int getMaxTransactionsPerSecond() { return maxTransactionsPerSecond; }
+    public void setMaxTransactionsPerSecond(int maxTransactionsPerSecond) { this.maxTransactionsPerSecond = maxTransactionsPerSecond; }
+
+    public int getMaxInFlight() { return maxInFlight; }
+    public void setMaxInFlight(int maxInFlight) { this.maxInFlight = maxInFlight; }
+
+    public int getMaxBlockSize() { return maxBlockSize; }
+    public void setMaxBlockSize(int maxBlockSize) { this.maxBlockSize = maxBlockSize; }
+
+    public String getDataDir() { return dataDir; }
+    public void setDataDir(String dataDir) { this.dataDir = dataDir; }
+
+    public long getRandomSeed() { return randomSeed; }
+    public void setRandomSeed(long randomSeed) { this.randomSeed = randomSeed; }
+}
@@ -0,0 +1,85 @@
+package com.contract.backend.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로, 나머지는 프라이머리로 보냅니다.
+ *
+ * 커넥션을 실제로 얻는 시점(첫 SQL)에 결정해야 트랜잭션의 readOnly 속성을 볼 수 있으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ * 프라이머리로 보내는 경우:
+ * - 트랜잭션 밖(OSIV 지연 로딩 등)과 쓰기 트랜잭션
+ * - 사용자가 최근에 쓴 경우 (ReadYourWritesTracker)
+ * - 지연이 maxLagSeconds 이하이고 최근(maxSampleAgeMs 이내)에 측정된 복제본이 없는 경우
+ * - callOnPrimary 안에서 시작된 트랜잭션
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagSeconds;
+    private final long maxSampleAgeMs;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(List<ReplicaNode> replicas, ReadYourWritesTracker readYourWritesTracker,
+                                      long maxLagSeconds, long maxSampleAgeMs) {
+        this.replicas = replicas;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagSeconds = maxLagSeconds;
+        this.maxSampleAgeMs = maxSampleAgeMs;
+    }
+
+    /**
+     * 복제 지연을 허용할 수 없는 읽기(커밋 직후 재조회, 노드 간에 공유되는 캐시 채우기)를 프라이머리에서 실행합니다.
+     * 이미 커넥션을 얻은 트랜잭션 안에서는 효과가 없으므로 첫 SQL 전에 호출해야 합니다.
+     */
+    public static <T> T callOnPrimary(Supplier<T> action) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.registerWrite();
+            return PRIMARY;
+        }
+        if (Boolean.TRUE.equals(FORCE_PRIMARY.get()) || readYourWritesTracker.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        // 라운드 로빈으로 시작 위치를 정하고 지연 기준을 만족하는 첫 복제본 선택
+        int size = replicas.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagSeconds, maxSampleAgeMs)) {
+                return replica.getName();
+            }
+        }
+        return PRIMARY;
+    }
+}
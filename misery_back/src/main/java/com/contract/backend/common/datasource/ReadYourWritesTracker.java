@@ -0,0 +1,116 @@
+package com.contract.backend.common.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 자기 쓰기 읽기(read-your-writes) 보장.
+ *
+ * 사용자의 쓰기 트랜잭션이 커밋되면 Redis 에 TTL 키를 남기고, 키가 살아 있는 동안 그 사용자의 읽기 전용 트랜잭션은
+ * 어느 노드에서 처리되든 프라이머리로 보냅니다. 같은 요청 안에서는 Redis 를 다시 보지 않도록 결과를 요청 속성에 둡니다.
+ * Redis 를 읽을 수 없으면 복제본이 최신인지 알 수 없으므로 프라이머리를 사용합니다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadYourWritesTracker.class);
+    private static final String PIN_PREFIX = "rw:pin:user:";
+    private static final String PINNED_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".PINNED";
+    private static final Object WRITE_SYNCHRONIZATION_KEY = new Object();
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration stickiness;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, Duration stickiness) {
+        this.redisTemplate = redisTemplate;
+        this.stickiness = stickiness;
+    }
+
+    /**
+     * 현재 읽기 전용 트랜잭션을 프라이머리로 보내야 하는지.
+     */
+    public boolean isPinnedToPrimary() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request != null) {
+            Object pinned = request.getAttribute(PINNED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (pinned instanceof Boolean value) {
+                return value;
+            }
+        }
+        String userUuid = currentUserUuid();
+        if (userUuid == null) {
+            return false;
+        }
+        boolean pinned;
+        try {
+            pinned = Boolean.TRUE.equals(redisTemplate.hasKey(PIN_PREFIX + userUuid));
+        } catch (Exception e) {
+            logger.warn("Read-your-writes pin unavailable, reading from primary: {}", e.getMessage());
+            pinned = true;
+        }
+        if (request != null) {
+            request.setAttribute(PINNED_ATTRIBUTE, pinned, RequestAttributes.SCOPE_REQUEST);
+        }
+        return pinned;
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 사용자를 프라이머리에 고정합니다. (트랜잭션당 한 번만 등록)
+     * 커밋 후 리스너(ContractEventRelay 등)보다 먼저 실행되도록 가장 높은 우선순위로 등록합니다.
+     */
+    public void registerWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_SYNCHRONIZATION_KEY)) {
+            return;
+        }
+        String userUuid = currentUserUuid();
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (userUuid == null && request == null) {
+            return; // 스케줄러 등 사용자와 무관한 쓰기
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_SYNCHRONIZATION_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                if (request != null) {
+                    request.setAttribute(PINNED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+                }
+                if (userUuid != null) {
+                    try {
+                        redisTemplate.opsForValue().set(PIN_PREFIX + userUuid, "1", stickiness);
+                    } catch (Exception e) {
+                        logger.warn("Failed to pin user {} to primary after write: {}", userUuid, e.getMessage());
+                    }
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_SYNCHRONIZATION_KEY);
+            }
+        });
+    }
+
+    private static String currentUserUuid() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getPrincipal() instanceof String uuid ? uuid : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.contract.backend.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본별 복제 지연(Seconds_Behind_Source)을 주기적으로 측정합니다.
+ *
+ * 측정에 실패하거나 복제가 멈춘(값이 NULL) 복제본은 다음 측정에서 회복될 때까지 라우팅 대상에서 빠집니다.
+ * 다른 스케줄 작업(정합성 점검 등)이 오래 걸려도 측정이 밀리지 않도록 전용 스레드에서 실행하며,
+ * 그래도 측정이 멈추면 ReplicaNode 가 오래된 측정값을 사용할 수 없는 것으로 봅니다.
+ * 복제본 풀은 스프링 빈이 아니므로 종료 시 여기서 닫습니다.
+ */
+public class ReplicaLagMonitor implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final List<ReplicaNode> replicas;
+    private final long checkIntervalMs;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(List<ReplicaNode> replicas, long checkIntervalMs, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.checkIntervalMs = checkIntervalMs;
+        for (ReplicaNode replica : replicas) {
+            Gauge.builder("datasource.replica.lag.seconds", replica, ReplicaNode::getLagSeconds)
+                    .description("Replication lag of the read replica (-1: unavailable)")
+                    .tag("replica", replica.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<ReplicaNode> getReplicas() {
+        return Collections.unmodifiableList(replicas);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (replicas.isEmpty()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::measure, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void measure() {
+        for (ReplicaNode replica : replicas) {
+            long previous = replica.getLagSeconds();
+            long lag;
+            try {
+                lag = readLagSeconds(new JdbcTemplate(replica.getDataSource()));
+            } catch (Exception e) {
+                lag = -1;
+                if (previous >= 0) {
+                    logger.warn("Replica {} lag check failed, routing reads to other nodes: {}", replica.getName(), e.getMessage());
+                }
+            }
+            if (previous < 0 && lag >= 0) {
+                logger.info("Replica {} available (lag {}s)", replica.getName(), lag);
+            }
+            replica.recordLag(lag);
+        }
+    }
+
+    // MySQL 8.0.22 미만은 SHOW SLAVE STATUS / Seconds_Behind_Master
+    private static long readLagSeconds(JdbcTemplate jdbcTemplate) {
+        List<Map<String, Object>> rows;
+        try {
+            rows = jdbcTemplate.queryForList("SHOW REPLICA STATUS");
+        } catch (BadSqlGrammarException e) {
+            rows = jdbcTemplate.queryForList("SHOW SLAVE STATUS");
+        }
+        if (rows.isEmpty()) {
+            return 0; // 복제 설정이 없는 노드 (예: 단일 노드 개발 환경)
+        }
+        Map<String, Object> status = rows.get(0);
+        Object seconds = status.containsKey("Seconds_Behind_Source")
+                ? status.get("Seconds_Behind_Source")
+                : status.get("Seconds_Behind_Master");
+        if (seconds == null) {
+            return -1; // 복제 스레드 중지
+        }
+        return ((Number) seconds).longValue();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (ReplicaNode replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource hikari) {
+                hikari.close();
+            }
+        }
+    }
+}
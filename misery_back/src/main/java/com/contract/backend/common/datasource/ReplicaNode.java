@@ -0,0 +1,43 @@
+package com.contract.backend.common.datasource;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 복제본 하나와 마지막으로 측정한 복제 지연.
+ */
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    // 측정 전이거나 복제가 멈춘 경우 -1 (라우팅 대상에서 제외)
+    private volatile long lagSeconds = -1;
+    // 마지막 측정 시각 (System.nanoTime 기준, 측정 전 0)
+    private volatile long measuredAtNanos;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 지연이 기준 이하이고 측정값이 maxSampleAgeMs 보다 오래되지 않았는지.
+     * 측정 작업이 멈추면 마지막 값이 좋았더라도 라우팅 대상에서 빠집니다.
+     */
+    public boolean isAvailable(long maxLagSeconds, long maxSampleAgeMs) {
+        long lag = lagSeconds;
+        long measuredAt = measuredAtNanos;
+        return lag >= 0 && lag <= maxLagSeconds
+                && measuredAt != 0 && System.nanoTime() - measuredAt <= TimeUnit.MILLISECONDS.toNanos(maxSampleAgeMs);
+    }
+
+    public String getName() { return name; }
+    public DataSource getDataSource() { return dataSource; }
+    public long getLagSeconds() { return lagSeconds; }
+
+    // 측정 결과와 측정 시각 기록
+    public void recordLag(long lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.measuredAtNanos = System.nanoTime();
+    }
+}
@@ -0,0 +1,14 @@
+package com.contract.backend.common.dto;
+
+import java.util.List;
+
+// 현재 버전에 서명할 계약 ID 목록
+public class BatchSignRequestDTO {
+    private List<Long> contractIds;
+
+    public BatchSignRequestDTO() {
+    }
+
+    public List<Long> getContractIds() { return contractIds; }
+    public void setContractIds(List<Long> contractIds) { this.contractIds = contractIds; }
+}
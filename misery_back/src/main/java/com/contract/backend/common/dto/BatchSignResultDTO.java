@@ -0,0 +1,45 @@
+package com.contract.backend.common.dto;
+
+// 일괄 서명의 계약별 결과. 서명하지 못한 계약은 errorCode/error 가 채워집니다.
+public class BatchSignResultDTO {
+    private Long contractId;
+    private Integer versionNumber;
+    private boolean signed;
+    private boolean finalized; // 이 서명으로 모든 필수 서명이 완료됨 (원장 기록 대상)
+    private String errorCode;
+    private String error;
+
+    public BatchSignResultDTO() {
+    }
+
+    public static BatchSignResultDTO signed(Long contractId, Integer versionNumber, boolean finalized) {
+        BatchSignResultDTO result = new BatchSignResultDTO();
+        result.contractId = contractId;
+        result.versionNumber = versionNumber;
+        result.signed = true;
+        result.finalized = finalized;
+        return result;
+    }
+
+    public static BatchSignResultDTO failed(Long contractId, Integer versionNumber, String errorCode, String error) {
+        BatchSignResultDTO result = new BatchSignResultDTO();
+        result.contractId = contractId;
+        result.versionNumber = versionNumber;
+        result.errorCode = errorCode;
+        result.error = error;
+        return result;
+    }
+
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+    public Integer getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+    public boolean isSigned() { return signed; }
+    public void setSigned(boolean signed) { this.signed = signed; }
+    public boolean isFinalized() { return finalized; }
+    public void setFinalized(boolean finalized) { this.finalized = finalized; }
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -18,11 +18,15 @@ public class BlockchainMetadataDTO {
     private LocalDateTime fullySignedAt; // 모든 서명이 완료된 시점 (또는 블록체인 기록 시점)
 
     // 내부 클래스로 서명 정보 정의
+    @JsonPropertyOrder({"signerUuid", "signatureHash", "signedAt"})
     public static class SignatureMetadataDTO {
         private String signerUuid;
         private String signatureHash;
         private LocalDateTime signedAt;
 
+        public SignatureMetadataDTO() {
+        }
+
         public SignatureMetadataDTO(String signerUuid, String signatureHash, LocalDateTime signedAt) {
             this.signerUuid = signerUuid;
             this.signatureHash = signatureHash;
@@ -38,6 +42,9 @@ public class BlockchainMetadataDTO {
         public void setSignedAt(LocalDateTime signedAt) { this.signedAt = signedAt; }
     }
 
+    public BlockchainMetadataDTO() {
+    }
+
     public BlockchainMetadataDTO(Long contractVersionId, String contractFileHash, String contractTitle, String creatorUuid, List<SignatureMetadataDTO> signatures, LocalDateTime fullySignedAt) {
         this.contractVersionId = contractVersionId;
         this.contractFileHash = contractFileHash;
@@ -0,0 +1,35 @@
+package com.contract.backend.common.dto;
+
+import java.util.List;
+
+// targets 또는 folderId 중 하나만 지정
+public class BulkVerificationRequestDTO {
+    private List<VerificationTarget> targets;
+    private Long folderId; // 폴더 내 계약들의 현재 버전을 검증
+
+    public BulkVerificationRequestDTO() {
+    }
+
+    public static class VerificationTarget {
+        private Long contractId;
+        private Integer versionNumber;
+
+        public VerificationTarget() {
+        }
+
+        public VerificationTarget(Long contractId, Integer versionNumber) {
+            this.contractId = contractId;
+            this.versionNumber = versionNumber;
+        }
+
+        public Long getContractId() { return contractId; }
+        public void setContractId(Long contractId) { this.contractId = contractId; }
+        public Integer getVersionNumber() { return versionNumber; }
+        public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+    }
+
+    public List<VerificationTarget> getTargets() { return targets; }
+    public void setTargets(List<VerificationTarget> targets) { this.targets = targets; }
+    public Long getFolderId() { return folderId; }
+    public void setFolderId(Long folderId) { this.folderId = folderId; }
+}
@@ -0,0 +1,42 @@
+package com.contract.backend.common.dto;
+
+// 일괄 검증 스트림(NDJSON)의 한 줄. 검증을 수행하지 못한 대상은 verification 대신 errorCode/error 가 채워집니다.
+public class BulkVerificationResultDTO {
+    private Long contractId;
+    private Integer versionNumber;
+    private ContractIntegrityVerificationDTO verification;
+    private String errorCode;
+    private String error;
+
+    public BulkVerificationResultDTO() {
+    }
+
+    public static BulkVerificationResultDTO verified(Long contractId, Integer versionNumber,
+                                                     ContractIntegrityVerificationDTO verification) {
+        BulkVerificationResultDTO result = new BulkVerificationResultDTO();
+        result.contractId = contractId;
+        result.versionNumber = versionNumber;
+        result.verification = verification;
+        return result;
+    }
+
+    public static BulkVerificationResultDTO failed(Long contractId, Integer versionNumber, String errorCode, String error) {
+        BulkVerificationResultDTO result = new BulkVerificationResultDTO();
+        result.contractId = contractId;
+        result.versionNumber = versionNumber;
+        result.errorCode = errorCode;
+        result.error = error;
+        return result;
+    }
+
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+    public Integer getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+    public ContractIntegrityVerificationDTO getVerification() { return verification; }
+    public void setVerification(ContractIntegrityVerificationDTO verification) { this.verification = verification; }
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
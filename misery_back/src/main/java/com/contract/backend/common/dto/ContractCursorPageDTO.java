@@ -0,0 +1,29 @@
+package com.contract.backend.common.dto;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이지 응답. 다음 페이지는 nextCursor 를 cursor 파라미터로 전달하여 요청합니다. (hasNext 가 false 면 null)
+ */
+public class ContractCursorPageDTO {
+    private List<ContractListDTO> contracts;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public ContractCursorPageDTO() {}
+
+    public ContractCursorPageDTO(List<ContractListDTO> contracts, String nextCursor) {
+        this.contracts = contracts;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    public List<ContractListDTO> getContracts() { return contracts; }
+    public void setContracts(List<ContractListDTO> contracts) { this.contracts = contracts; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+}
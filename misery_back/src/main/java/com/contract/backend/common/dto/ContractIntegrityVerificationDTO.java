@@ -1,5 +1,7 @@
 package com.contract.backend.common.dto;
 
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +14,8 @@ public class ContractIntegrityVerificationDTO {
     private boolean overallSuccess;
     private String message;
     private LocalDateTime verifiedAt;
+    private AnchorStatus anchorStatus; // 블록 이벤트로 확인된 원장 커밋 상태
+    private Long anchorBlockNumber;
 
     public enum VerificationStatus {
         NOT_CHECKED,
@@ -63,4 +67,8 @@ public class ContractIntegrityVerificationDTO {
     public void setMessage(String message) { this.message = message; }
     public LocalDateTime getVerifiedAt() { return verifiedAt; }
     public void setVerifiedAt(LocalDateTime verifiedAt) { this.verifiedAt = verifiedAt; }
+    public AnchorStatus getAnchorStatus() { return anchorStatus; }
+    public void setAnchorStatus(AnchorStatus anchorStatus) { this.anchorStatus = anchorStatus; }
+    public Long getAnchorBlockNumber() { return anchorBlockNumber; }
+    public void setAnchorBlockNumber(Long anchorBlockNumber) { this.anchorBlockNumber = anchorBlockNumber; }
 }
\ No newline at end of file
@@ -29,6 +29,15 @@ public class FolderResponseDTO {
         this.createdBy = createdBy;
     }
 
+    // 트리 조회 프로젝션용 (작성자는 요청 사용자로 채움)
+    public FolderResponseDTO(Long id, String name, String path, Long parentId, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.path = path;
+        this.parentId = parentId;
+        this.createdAt = createdAt;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,79 @@
+package com.contract.backend.common.dto;
+
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약 버전 하나의 무결성 증명 번들. 네트워크 호출 없이 IntegrityProofVerifier 로 검증할 수 있습니다.
+ *
+ * canonicalMetadata 는 원장에 기록된 바이트 그대로이며(JSON 에서는 Base64), 그 SHA-256 이 metadataHash 입니다.
+ * 원장 위치는 txId/blockNumber 로 남깁니다. Fabric 은 트랜잭션 단위 Merkle 증명을 제공하지 않으므로
+ * 블록 포함 여부 자체는 필요 시 해당 블록을 조회하여 별도로 확인합니다.
+ * 내보낼 때 서버 키로 서명하며(IntegrityProofSigner), 서명이 맞지 않는 번들의 필드는 신뢰하지 않습니다.
+ */
+public class IntegrityProofBundleDTO {
+
+    public static final String FORMAT_VERSION = "2";
+    public static final String HASH_ALGORITHM = "SHA-256";
+
+    private String formatVersion;
+    private String hashAlgorithm;
+    private Long contractId;
+    private Integer versionNumber;
+    private Long contractVersionId;
+    private String fileHash;              // 계약 파일 원본의 해시
+    private byte[] canonicalMetadata;     // 원장에 기록된 메타데이터 바이트
+    private String metadataHash;          // canonicalMetadata 의 해시 (blockchain_records.metadata_hash)
+    private BlockchainMetadataDTO metadata; // canonicalMetadata 를 해석한 값 (서명 목록 포함, 사람이 읽기 위한 용도)
+    private String txId;
+    private Long blockNumber;
+    private AnchorStatus anchorStatus;
+    private LocalDateTime anchoredAt;
+    private LocalDateTime confirmedAt;
+    private LocalDateTime exportedAt;
+    private String signatureAlgorithm;
+    private String signingKeyId;          // 서명한 서버 공개키의 지문
+    private byte[] signature;             // 위 필드들에 대한 서버 서명 (JSON 에서는 Base64)
+
+    public IntegrityProofBundleDTO() {
+    }
+
+    // Getters & Setters
+    public String getFormatVersion() { return formatVersion; }
+    public void setFormatVersion(String formatVersion) { this.formatVersion = formatVersion; }
+    public String getHashAlgorithm() { return hashAlgorithm; }
+    public void setHashAlgorithm(String hashAlgorithm) { this.hashAlgorithm = hashAlgorithm; }
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+    public Integer getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+    public Long getContractVersionId() { return contractVersionId; }
+    public void setContractVersionId(Long contractVersionId) { this.contractVersionId = contractVersionId; }
+    public String getFileHash() { return fileHash; }
+    public void setFileHash(String fileHash) { this.fileHash = fileHash; }
+    public byte[] getCanonicalMetadata() { return canonicalMetadata; }
+    public void setCanonicalMetadata(byte[] canonicalMetadata) { this.canonicalMetadata = canonicalMetadata; }
+    public String getMetadataHash() { return metadataHash; }
+    public void setMetadataHash(String metadataHash) { this.metadataHash = metadataHash; }
+    public BlockchainMetadataDTO getMetadata() { return metadata; }
+    public void setMetadata(BlockchainMetadataDTO metadata) { this.metadata = metadata; }
+    public String getTxId() { return txId; }
+    public void setTxId(String txId) { this.txId = txId; }
+    public Long getBlockNumber() { return blockNumber; }
+    public void setBlockNumber(Long blockNumber) { this.blockNumber = blockNumber; }
+    public AnchorStatus getAnchorStatus() { return anchorStatus; }
+    public void setAnchorStatus(AnchorStatus anchorStatus) { this.anchorStatus = anchorStatus; }
+    public LocalDateTime getAnchoredAt() { return anchoredAt; }
+    public void setAnchoredAt(LocalDateTime anchoredAt) { this.anchoredAt = anchoredAt; }
+    public LocalDateTime getConfirmedAt() { return confirmedAt; }
+    public void setConfirmedAt(LocalDateTime confirmedAt) { this.confirmedAt = confirmedAt; }
+    public LocalDateTime getExportedAt() { return exportedAt; }
+    public void setExportedAt(LocalDateTime exportedAt) { this.exportedAt = exportedAt; }
+    public String getSignatureAlgorithm() { return signatureAlgorithm; }
+    public void setSignatureAlgorithm(String signatureAlgorithm) { this.signatureAlgorithm = signatureAlgorithm; }
+    public String getSigningKeyId() { return signingKeyId; }
+    public void setSigningKeyId(String signingKeyId) { this.signingKeyId = signingKeyId; }
+    public byte[] getSignature() { return signature; }
+    public void setSignature(byte[] signature) { this.signature = signature; }
+}
@@ -0,0 +1,26 @@
+package com.contract.backend.common.dto;
+
+// 증명 번들 서명 검증용 서버 공개키
+public class ProofSigningKeyDTO {
+
+    private String signatureAlgorithm;
+    private String keyId;
+    private String publicKey; // X.509 DER, Base64
+
+    public ProofSigningKeyDTO() {
+    }
+
+    public ProofSigningKeyDTO(String signatureAlgorithm, String keyId, String publicKey) {
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.keyId = keyId;
+        this.publicKey = publicKey;
+    }
+
+    // Getters & Setters
+    public String getSignatureAlgorithm() { return signatureAlgorithm; }
+    public void setSignatureAlgorithm(String signatureAlgorithm) { this.signatureAlgorithm = signatureAlgorithm; }
+    public String getKeyId() { return keyId; }
+    public void setKeyId(String keyId) { this.keyId = keyId; }
+    public String getPublicKey() { return publicKey; }
+    public void setPublicKey(String publicKey) { this.publicKey = publicKey; }
+}
@@ -0,0 +1,47 @@
+package com.contract.backend.common.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 증명 번들 검증 결과. 모든 항목이 통과해야 valid 입니다.
+public class ProofVerificationResultDTO {
+
+    private boolean valid;
+    private List<Check> checks = new ArrayList<>();
+
+    public static class Check {
+        private String name;
+        private boolean passed;
+        private String details;
+
+        public Check() {
+        }
+
+        public Check(String name, boolean passed, String details) {
+            this.name = name;
+            this.passed = passed;
+            this.details = details;
+        }
+
+        // Getters & Setters
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public boolean isPassed() { return passed; }
+        public void setPassed(boolean passed) { this.passed = passed; }
+        public String getDetails() { return details; }
+        public void setDetails(String details) { this.details = details; }
+    }
+
+    public ProofVerificationResultDTO() {
+    }
+
+    public void addCheck(String name, boolean passed, String details) {
+        checks.add(new Check(name, passed, details));
+    }
+
+    // Getters & Setters
+    public boolean isValid() { return valid; }
+    public void setValid(boolean valid) { this.valid = valid; }
+    public List<Check> getChecks() { return checks; }
+    public void setChecks(List<Check> checks) { this.checks = checks; }
+}
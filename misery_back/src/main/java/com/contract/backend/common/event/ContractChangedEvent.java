@@ -0,0 +1,50 @@
+package com.contract.backend.common.event;
+
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계약 상태 변경 이벤트. (ApplicationEventPublisher 로 발행, 커밋 후 Redis 를 거쳐 참여자들의 SSE 스트림으로 전달)
+ *
+ * 클라이언트에는 변경 종류와 식별자만 알리고 상세 내용은 기존 조회 API 로 다시 읽도록 가볍게 유지합니다.
+ */
+public class ContractChangedEvent {
+
+    private ContractEventType type;
+    private Long contractId;
+    private Integer versionNumber;
+    private ContractStatus contractStatus;
+    private String actorUuid;
+    private LocalDateTime occurredAt;
+
+    public ContractChangedEvent() {}
+
+    public ContractChangedEvent(ContractEventType type, Long contractId, Integer versionNumber,
+                                ContractStatus contractStatus, String actorUuid) {
+        this.type = type;
+        this.contractId = contractId;
+        this.versionNumber = versionNumber;
+        this.contractStatus = contractStatus;
+        this.actorUuid = actorUuid;
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public ContractEventType getType() { return type; }
+    public void setType(ContractEventType type) { this.type = type; }
+
+    public Long getContractId() { return contractId; }
+    public void setContractId(Long contractId) { this.contractId = contractId; }
+
+    public Integer getVersionNumber() { return versionNumber; }
+    public void setVersionNumber(Integer versionNumber) { this.versionNumber = versionNumber; }
+
+    public ContractStatus getContractStatus() { return contractStatus; }
+    public void setContractStatus(ContractStatus contractStatus) { this.contractStatus = contractStatus; }
+
+    public String getActorUuid() { return actorUuid; }
+    public void setActorUuid(String actorUuid) { this.actorUuid = actorUuid; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+}
@@ -0,0 +1,25 @@
+package com.contract.backend.common.event;
+
+import java.util.List;
+
+/**
+ * Redis 채널로 노드 간에 전달되는 메시지. 각 노드는 수신자 중 자기에게 연결된 사용자에게만 이벤트를 보냅니다.
+ */
+public class ContractEventMessage {
+
+    private List<String> recipientUuids;
+    private ContractChangedEvent event;
+
+    public ContractEventMessage() {}
+
+    public ContractEventMessage(List<String> recipientUuids, ContractChangedEvent event) {
+        this.recipientUuids = recipientUuids;
+        this.event = event;
+    }
+
+    public List<String> getRecipientUuids() { return recipientUuids; }
+    public void setRecipientUuids(List<String> recipientUuids) { this.recipientUuids = recipientUuids; }
+
+    public ContractChangedEvent getEvent() { return event; }
+    public void setEvent(ContractChangedEvent event) { this.event = event; }
+}
@@ -0,0 +1,9 @@
+package com.contract.backend.common.event;
+
+public enum ContractEventType {
+    VERSION_CREATED,   // 업로드 / 새 버전 등록
+    PARTICIPANT_ADDED, // 참여자 추가
+    SIGNED,            // 서명 추가
+    CLOSED,            // 모든 필수 서명 완료
+    DELETED            // 계약 삭제
+}
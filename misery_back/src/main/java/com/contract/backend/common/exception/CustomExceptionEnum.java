@@ -20,7 +20,20 @@ public enum CustomExceptionEnum {
     ALREADY_SIGNED("이미 해당 버전에 서명했습니다.", HttpStatus.CONFLICT),// 추가; // 추가
     PARTICIPANT_ALREADY_EXISTS("이미 계약에 참여하고 있는 사용자입니다.", HttpStatus.CONFLICT), // 필요시 추가
     CANNOT_ADD_PARTICIPANT("계약에 참여자를 추가할 수 없는 상태입니다.", HttpStatus.BAD_REQUEST),
-    CANNOT_ADD_CREATOR_AS_DIFFERENT_ROLE("자기 자신을 추가할 수 없습니다.", HttpStatus.BAD_REQUEST);
+    CANNOT_ADD_CREATOR_AS_DIFFERENT_ROLE("자기 자신을 추가할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_BULK_VERIFICATION_REQUEST("일괄 검증 요청이 올바르지 않습니다. 대상 목록 또는 폴더 중 하나를 지정해주세요.", HttpStatus.BAD_REQUEST),
+    BULK_VERIFICATION_LIMIT_EXCEEDED("한 번에 검증할 수 있는 계약 버전 수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    BLOCKCHAIN_RECORD_NOT_FOUND("해당 계약 버전의 블록체인 기록을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INTEGRITY_PROOF_UNAVAILABLE("원장 기록이 DB 기록과 일치하지 않아 무결성 증명을 만들 수 없습니다.", HttpStatus.CONFLICT),
+    INVALID_BATCH_SIGN_REQUEST("서명할 계약 ID 목록을 지정해주세요.", HttpStatus.BAD_REQUEST),
+    BATCH_SIGN_LIMIT_EXCEEDED("한 번에 서명할 수 있는 계약 수를 초과했습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key 는 1~100자여야 합니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용된 Idempotency-Key 입니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENCY_REQUEST_IN_PROGRESS("같은 Idempotency-Key 로 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT),
+    INVALID_CURSOR("페이지 커서가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_FOLDER_NAME("폴더 이름에는 '/' 를 사용할 수 없습니다.", HttpStatus.BAD_REQUEST),
+    CONCURRENT_MODIFICATION("다른 요청이 같은 데이터를 먼저 변경했습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
+    EXTERNAL_SERVICE_UNAVAILABLE("외부 연동 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
 
     private final String message;
@@ -1,6 +1,10 @@
 package com.contract.backend.common.exception;
 
 import com.contract.backend.common.response.ApiResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,4 +17,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(e.getStatus())
                 .body(ApiResponse.fail(e.getMessage()));
     }
+
+    // 서킷 오픈 또는 벌크헤드 포화 시 대기 없이 503 반환 (컨트롤러에서 RuntimeException 으로 감싸도 cause 로 매칭됨)
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ApiResponse<?>> handleDependencyUnavailable(Exception e) {
+        CustomExceptionEnum error = CustomExceptionEnum.EXTERNAL_SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(error.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.fail(error.getMessage()));
+    }
+
+    // 계약 버전 등 @Version 엔티티의 동시 갱신 충돌
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        CustomExceptionEnum error = CustomExceptionEnum.CONCURRENT_MODIFICATION;
+        return ResponseEntity.status(error.getStatus())
+                .body(ApiResponse.fail(error.getMessage()));
+    }
 }
@@ -0,0 +1,7 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.BlockchainCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BlockchainCheckpointRepository extends JpaRepository<BlockchainCheckpointEntity, String> {
+}
@@ -2,8 +2,16 @@ package com.contract.backend.common.repository;
 
 import com.contract.backend.common.Entity.BlockchainRecordEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity; // ContractVersionEntity import 추가
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BlockchainRecordRepository extends JpaRepository<BlockchainRecordEntity, Long> {
@@ -11,6 +19,49 @@ public interface BlockchainRecordRepository extends JpaRepository<BlockchainReco
     // ContractVersionEntity 객체로 BlockchainRecordEntity 조회
     Optional<BlockchainRecordEntity> findByContractVersion(ContractVersionEntity contractVersion);
 
-    // 필요한 경우 ContractVersionEntity의 ID로 조회하는 메소드도 추가할 수 있습니다.
-    // Optional<BlockchainRecordEntity> findByContractVersion_Id(Long contractVersionId);
-}
\ No newline at end of file
+    boolean existsByContractVersion_Id(Long contractVersionId);
+
+    Optional<BlockchainRecordEntity> findByContractVersion_Id(Long contractVersionId);
+
+    // 유효한(INVALID 가 아닌) 기록이 있는지
+    boolean existsByContractVersion_IdAndAnchorStatusNot(Long contractVersionId, AnchorStatus anchorStatus);
+
+    // 블록 이벤트로 확인되지 않은 채 오래 남은 PENDING 기록 (원장 직접 조회로 정리)
+    @Query("SELECT r FROM BlockchainRecordEntity r JOIN FETCH r.contractVersion " +
+            "WHERE r.anchorStatus = com.contract.backend.common.Entity.enumm.AnchorStatus.PENDING " +
+            "AND r.recordedAt < :recordedBefore ORDER BY r.id")
+    List<BlockchainRecordEntity> findStalePending(@Param("recordedBefore") LocalDateTime recordedBefore, Pageable pageable);
+
+    // PENDING 인 경우에만 확인 결과 반영 (그 사이 블록 이벤트로 반영된 기록은 그대로 둠)
+    @Modifying
+    @Query("UPDATE BlockchainRecordEntity r SET r.anchorStatus = :status, r.confirmedAt = :confirmedAt " +
+            "WHERE r.id = :id AND r.anchorStatus = com.contract.backend.common.Entity.enumm.AnchorStatus.PENDING")
+    int resolvePending(@Param("id") Long id,
+                       @Param("status") AnchorStatus status,
+                       @Param("confirmedAt") LocalDateTime confirmedAt);
+
+    List<BlockchainRecordEntity> findAllByContractVersionIn(Collection<ContractVersionEntity> contractVersions);
+
+    // 정합성 점검용: 워터마크 이후 기록을 검증에 필요한 연관 엔티티와 함께 ID 순으로 조회
+    @Query("SELECT r FROM BlockchainRecordEntity r " +
+            "JOIN FETCH r.contractVersion cv " +
+            "JOIN FETCH cv.contract c " +
+            "JOIN FETCH c.createdBy " +
+            "WHERE r.id > :afterId ORDER BY r.id")
+    List<BlockchainRecordEntity> findReconciliationBatch(@Param("afterId") long afterId, Pageable pageable);
+
+    // 블록 이벤트로 들어온 트랜잭션 ID 중 이 서비스가 기록한 것만 조회
+    @Query("SELECT r.txHash FROM BlockchainRecordEntity r WHERE r.txHash IN :txHashes")
+    List<String> findTxHashesIn(@Param("txHashes") Collection<String> txHashes);
+
+    // 같은 블록에서 커밋된 기록들의 확인 상태를 한 번에 갱신
+    @Modifying
+    @Query("UPDATE BlockchainRecordEntity r " +
+            "SET r.anchorStatus = :status, r.blockNumber = :blockNumber, r.confirmedAt = :confirmedAt " +
+            "WHERE r.txHash IN :txHashes " +
+            "AND r.anchorStatus = com.contract.backend.common.Entity.enumm.AnchorStatus.PENDING")
+    int markCommitted(@Param("txHashes") Collection<String> txHashes,
+                      @Param("status") AnchorStatus status,
+                      @Param("blockNumber") Long blockNumber,
+                      @Param("confirmedAt") LocalDateTime confirmedAt);
+}
@@ -4,12 +4,49 @@ import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractPartyEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ContractPartyRepository extends JpaRepository<ContractPartyEntity, Long> {
     List<ContractPartyEntity> findByContract(ContractEntity contract);
+
+    // 참여자 사용자 정보를 함께 로딩 (상세 조회용)
+    @Query("SELECT cp FROM ContractPartyEntity cp JOIN FETCH cp.party WHERE cp.contract = :contract ORDER BY cp.id")
+    List<ContractPartyEntity> findAllWithPartyByContract(@Param("contract") ContractEntity contract);
     List<ContractPartyEntity> findByParty(UserEntity party);
     Optional<ContractPartyEntity> findByContractAndParty(ContractEntity contract, UserEntity party);
+
+    // 주어진 계약들 중 사용자가 참여자로 등록된 계약 ID
+    @Query("SELECT cp.contract.id FROM ContractPartyEntity cp WHERE cp.party = :party AND cp.contract.id IN :contractIds")
+    List<Long> findContractIdsByPartyAndContractIdIn(@Param("party") UserEntity party,
+                                                     @Param("contractIds") Collection<Long> contractIds);
+
+    boolean existsByContractAndParty(ContractEntity contract, UserEntity party);
+
+    // 서명이 필요한 참여자 수 (INITIATOR, COUNTERPARTY)
+    @Query("SELECT COUNT(cp) FROM ContractPartyEntity cp WHERE cp.contract = :contract " +
+           "AND cp.role IN (com.contract.backend.common.Entity.enumm.PartyRole.INITIATOR, " +
+           "com.contract.backend.common.Entity.enumm.PartyRole.COUNTERPARTY)")
+    long countRequiredSigners(@Param("contract") ContractEntity contract);
+
+    // 계약별 서명이 필요한 참여자 수 [contractId, count]
+    @Query("SELECT cp.contract.id, COUNT(cp) FROM ContractPartyEntity cp WHERE cp.contract.id IN :contractIds " +
+           "AND cp.role IN (com.contract.backend.common.Entity.enumm.PartyRole.INITIATOR, " +
+           "com.contract.backend.common.Entity.enumm.PartyRole.COUNTERPARTY) " +
+           "GROUP BY cp.contract.id")
+    List<Object[]> countRequiredSignersByContractIdIn(@Param("contractIds") Collection<Long> contractIds);
+
+    // 계약 접근 권한이 있는 사용자 ID (생성자 + 참여자)
+    @Query(value = "SELECT c.created_by FROM contracts c WHERE c.id = :contractId " +
+                   "UNION SELECT cp.party_id FROM contract_parties cp WHERE cp.contract_id = :contractId",
+           nativeQuery = true)
+    List<Long> findMemberIdsByContractId(@Param("contractId") Long contractId);
+
+    // 계약 이벤트 수신자 (참여자 UUID)
+    @Query("SELECT cp.party.uuid FROM ContractPartyEntity cp WHERE cp.contract.id = :contractId")
+    List<String> findPartyUuidsByContractId(@Param("contractId") Long contractId);
 }
@@ -3,12 +3,14 @@ package com.contract.backend.common.repository;
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.dto.ContractListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,11 +23,16 @@ public interface ContractRepository extends JpaRepository<ContractEntity, Long>
     @Query("SELECT c FROM ContractEntity c WHERE c.status = :status AND c.deletedAt IS NULL")
     List<ContractEntity> findByStatusAndNotDeleted(@Param("status") ContractStatus status);
 
-    @Query("SELECT DISTINCT c FROM ContractEntity c " +
-            "LEFT JOIN ContractPartyEntity cp ON c.id = cp.contract.id " +
-            "WHERE (c.createdBy = :user OR cp.party = :user) " +
-            "AND c.deletedAt IS NULL")
-    Page<ContractEntity> findContractsByCreatorOrParticipant(
+    // 목록 화면용 프로젝션: 엔티티 대신 ContractListDTO 컬럼(현재 버전 번호 포함)만 한 번의 SQL 로 조회
+    @Query(value = "SELECT new com.contract.backend.common.dto.ContractListDTO(" +
+            "c.id, c.title, c.status, c.createdAt, v.versionNumber) " +
+            "FROM ContractEntity c LEFT JOIN c.currentVersion v " +
+            "WHERE c.deletedAt IS NULL AND (c.createdBy = :user OR EXISTS (" +
+            "SELECT 1 FROM ContractPartyEntity cp WHERE cp.contract = c AND cp.party = :user))",
+            countQuery = "SELECT COUNT(c) FROM ContractEntity c " +
+            "WHERE c.deletedAt IS NULL AND (c.createdBy = :user OR EXISTS (" +
+            "SELECT 1 FROM ContractPartyEntity cp WHERE cp.contract = c AND cp.party = :user))")
+    Page<ContractListDTO> findContractListByCreatorOrParticipant(
             @Param("user") UserEntity user,
             Pageable pageable
     );
@@ -34,6 +41,11 @@ public interface ContractRepository extends JpaRepository<ContractEntity, Long>
     @Query("SELECT c FROM ContractEntity c WHERE c.id = :id AND c.deletedAt IS NULL")
     Optional<ContractEntity> findByIdAndNotDeleted(@Param("id") Long id);
 
+    // 상세 조회용: 작성자/수정자/현재 버전을 함께 로딩
+    @Query("SELECT c FROM ContractEntity c JOIN FETCH c.createdBy LEFT JOIN FETCH c.updatedBy " +
+           "LEFT JOIN FETCH c.currentVersion WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<ContractEntity> findDetailByIdAndNotDeleted(@Param("id") Long id);
+
     //검색 메소드
     @Query("SELECT c FROM ContractEntity c " +
            "LEFT JOIN ContractPartyEntity cp ON c.id = cp.contract.id " +
@@ -47,6 +59,11 @@ public interface ContractRepository extends JpaRepository<ContractEntity, Long>
     );
     
     
+    // 일괄 검증용: 작성자를 함께 로딩 (검증 비교에 creatorUuid 사용)
+    @Query("SELECT c FROM ContractEntity c JOIN FETCH c.createdBy " +
+           "WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    List<ContractEntity> findAllWithCreatorByIdInAndNotDeleted(@Param("ids") Collection<Long> ids);
+
     List<ContractEntity> findByCreatedBy(UserEntity user);
     List<ContractEntity> findByStatus(ContractStatus status);
 }
\ No newline at end of file
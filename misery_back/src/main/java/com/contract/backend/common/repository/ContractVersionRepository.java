@@ -4,17 +4,27 @@ import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ContractVersionRepository extends JpaRepository<ContractVersionEntity, Long> {
     List<ContractVersionEntity> findByContract(ContractEntity contract);
+    List<ContractVersionEntity> findByContractOrderByVersionNumberAsc(ContractEntity contract);
     Optional<ContractVersionEntity> findByContractAndVersionNumber(ContractEntity contract, int versionNumber);
     List<ContractVersionEntity> findByStatus(VersionStatus status);
+
+    @Query("SELECT cv FROM ContractVersionEntity cv WHERE cv.contract.id IN :contractIds")
+    List<ContractVersionEntity> findAllByContractIdIn(@Param("contractIds") Collection<Long> contractIds);
     
     /**
      * 파일 경로로 계약서 버전 찾기 (미리보기/다운로드용)
@@ -29,4 +39,74 @@ public interface ContractVersionRepository extends JpaRepository<ContractVersion
            "WHERE cv.filePath = :filePath " +
            "AND cv.contract.deletedAt IS NULL")
     Optional<ContractVersionEntity> findByFilePathAndContractNotDeleted(@Param("filePath") String filePath);
+
+    // 서명자 카운터 지연 백필 (아직 집계되지 않은 행만, 동시 백필 시 한 쪽만 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.requiredSignerCount = :required, cv.collectedSignerCount = :collected, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id = :id AND cv.requiredSignerCount = 0")
+    int initializeSignerCounts(@Param("id") Long id, @Param("required") int required, @Param("collected") int collected);
+
+    // 서명 1건 반영. 서명 대기 상태가 아니면 0 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.collectedSignerCount = cv.collectedSignerCount + 1, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id = :id " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.PENDING_SIGNATURE")
+    int incrementCollectedSigners(@Param("id") Long id);
+
+    // 필수 서명이 모두 모였으면 SIGNED 로 전환. 1을 돌려받은 트랜잭션만 완료 후속 처리(앵커링)를 수행
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.SIGNED, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id = :id " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.PENDING_SIGNATURE " +
+           "AND cv.requiredSignerCount > 0 " +
+           "AND cv.collectedSignerCount >= cv.requiredSignerCount")
+    int finalizeIfFullySigned(@Param("id") Long id);
+
+    // 서명 대기 중 필수 서명자가 추가된 경우 (집계 전인 행은 백필 시 반영되므로 제외)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.requiredSignerCount = cv.requiredSignerCount + 1, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id = :id AND cv.requiredSignerCount > 0 " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.PENDING_SIGNATURE")
+    int incrementRequiredSigners(@Param("id") Long id);
+
+    // 서명이 완료되었지만 유효한 블록체인 기록이 없는 버전 (기록 없음 또는 INVALID, 마지막 서명이 signedBefore 이전인 것만)
+    @Query("SELECT cv.id FROM ContractVersionEntity cv " +
+           "WHERE cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.SIGNED " +
+           "AND NOT EXISTS (SELECT r.id FROM BlockchainRecordEntity r WHERE r.contractVersion = cv " +
+           "AND r.anchorStatus <> com.contract.backend.common.Entity.enumm.AnchorStatus.INVALID) " +
+           "AND NOT EXISTS (SELECT s.id FROM SignatureEntity s WHERE s.contractVersion = cv AND s.signedAt >= :signedBefore) " +
+           "ORDER BY cv.id")
+    List<Long> findSignedWithoutValidBlockchainRecord(@Param("signedBefore") LocalDateTime signedBefore, Pageable pageable);
+
+    // 일괄 서명 대상 계약들의 현재 버전을 ID 순으로 잠금 조회 (계약 함께 로드, 삭제된 계약 제외)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cv FROM ContractVersionEntity cv JOIN FETCH cv.contract c " +
+           "WHERE c.id IN :contractIds AND c.currentVersion = cv AND c.deletedAt IS NULL " +
+           "ORDER BY cv.id")
+    List<ContractVersionEntity> lockCurrentVersionsByContractIdIn(@Param("contractIds") Collection<Long> contractIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.collectedSignerCount = cv.collectedSignerCount + 1, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id IN :ids " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.PENDING_SIGNATURE")
+    int incrementCollectedSignersIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ContractVersionEntity cv " +
+           "SET cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.SIGNED, cv.lockVersion = cv.lockVersion + 1 " +
+           "WHERE cv.id IN :ids " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.PENDING_SIGNATURE " +
+           "AND cv.requiredSignerCount > 0 " +
+           "AND cv.collectedSignerCount >= cv.requiredSignerCount")
+    int finalizeIfFullySignedIn(@Param("ids") Collection<Long> ids);
+
+    // 주어진 버전 중 실제로 SIGNED 상태인 버전 ID (완료 전환 결과 확인용)
+    @Query("SELECT cv.id FROM ContractVersionEntity cv WHERE cv.id IN :ids " +
+           "AND cv.status = com.contract.backend.common.Entity.enumm.VersionStatus.SIGNED")
+    List<Long> findSignedIdsIn(@Param("ids") Collection<Long> ids);
 }
@@ -4,12 +4,16 @@ package com.contract.backend.common.repository;
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.FolderContractEntity;
 import com.contract.backend.common.Entity.FolderEntity;
+import com.contract.backend.common.Entity.UserEntity;
 import com.contract.backend.common.Entity.idClass.FolderContractId;
+import com.contract.backend.common.dto.ContractListDTO;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +23,28 @@ public interface FolderContractRepository extends JpaRepository<FolderContractEn
     @Query("SELECT fc.contract FROM FolderContractEntity fc WHERE fc.folder = :folder AND fc.contract.deletedAt IS NULL")
     List<ContractEntity> findContractsByFolder(@Param("folder") FolderEntity folder);
     
+    // 폴더 계약 목록 프로젝션 (현재 버전 번호 포함, 엔티티 로딩 없이 한 번의 SQL)
+    @Query("SELECT new com.contract.backend.common.dto.ContractListDTO(" +
+           "c.id, c.title, c.status, c.createdAt, v.versionNumber) " +
+           "FROM FolderContractEntity fc JOIN fc.contract c LEFT JOIN c.currentVersion v " +
+           "WHERE fc.folder = :folder AND c.deletedAt IS NULL")
+    List<ContractListDTO> findContractListByFolder(@Param("folder") FolderEntity folder);
+
+    @Query("SELECT fc.contract.id FROM FolderContractEntity fc WHERE fc.folder = :folder AND fc.contract.deletedAt IS NULL")
+    List<Long> findContractIdsByFolder(@Param("folder") FolderEntity folder);
+
+    // 주어진 폴더들의 계약서 수 [folderId, count] (계약서가 없는 폴더는 결과에 없음)
+    @Query("SELECT fc.folder.id, COUNT(fc) FROM FolderContractEntity fc " +
+           "WHERE fc.folder.id IN :folderIds AND fc.contract.deletedAt IS NULL " +
+           "GROUP BY fc.folder.id")
+    List<Object[]> countContractsByFolderIdIn(@Param("folderIds") Collection<Long> folderIds);
+
+    // 사용자 폴더별 계약서 수 [folderId, count]
+    @Query("SELECT fc.folder.id, COUNT(fc) FROM FolderContractEntity fc " +
+           "WHERE fc.folder.createdBy = :user AND fc.folder.deletedAt IS NULL AND fc.contract.deletedAt IS NULL " +
+           "GROUP BY fc.folder.id")
+    List<Object[]> countContractsByFolderForUser(@Param("user") UserEntity user);
+
     // 특정 계약서가 어느 폴더에 있는지 조회
     @Query("SELECT fc.folder FROM FolderContractEntity fc WHERE fc.contract = :contract")
     Optional<FolderEntity> findFolderByContract(@Param("contract") ContractEntity contract);
@@ -26,6 +52,13 @@ public interface FolderContractRepository extends JpaRepository<FolderContractEn
     // 특정 폴더-계약서 연결 조회
     Optional<FolderContractEntity> findByFolderAndContract(FolderEntity folder, ContractEntity contract);
     
-    // 특정 계약서의 폴더 연결 삭제용
-    void deleteByContract(ContractEntity contract);
+    // 특정 계약서의 폴더 연결 삭제용 (엔티티를 읽지 않고 DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FolderContractEntity fc WHERE fc.contract = :contract")
+    int deleteByContract(@Param("contract") ContractEntity contract);
+
+    // 여러 폴더의 계약서 연결 일괄 삭제 (계약서는 루트로 이동)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM FolderContractEntity fc WHERE fc.folder.id IN :folderIds")
+    int deleteByFolderIdIn(@Param("folderIds") Collection<Long> folderIds);
 }
\ No newline at end of file
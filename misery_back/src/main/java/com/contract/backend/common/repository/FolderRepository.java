@@ -3,10 +3,14 @@ package com.contract.backend.common.repository;
 
 import com.contract.backend.common.Entity.FolderEntity;
 import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.dto.FolderResponseDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +20,20 @@ public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
     @Query("SELECT f FROM FolderEntity f WHERE f.createdBy = :user AND f.deletedAt IS NULL")
     List<FolderEntity> findByCreatedByAndNotDeleted(@Param("user") UserEntity user);
     
+    // 사용자의 전체 폴더 계층 (트리 조립용, 부모 ID 는 FK 값만 사용하므로 조인 없음)
+    @Query("SELECT new com.contract.backend.common.dto.FolderResponseDTO(" +
+           "f.id, f.name, f.path, f.parent.id, f.createdAt) " +
+           "FROM FolderEntity f WHERE f.createdBy = :user AND f.deletedAt IS NULL ORDER BY f.name, f.id")
+    List<FolderResponseDTO> findTreeNodesByUser(@Param("user") UserEntity user);
+
     // 특정 부모 폴더의 자식 폴더들 조회
     @Query("SELECT f FROM FolderEntity f WHERE f.parent = :parent AND f.deletedAt IS NULL ORDER BY f.name")
     List<FolderEntity> findByParentAndNotDeleted(@Param("parent") FolderEntity parent);
     
+    // 여러 부모 폴더의 자식 폴더들을 한 번에 조회
+    @Query("SELECT f FROM FolderEntity f WHERE f.parent IN :parents AND f.deletedAt IS NULL ORDER BY f.name")
+    List<FolderEntity> findByParentInAndNotDeleted(@Param("parents") Collection<FolderEntity> parents);
+    
     // 루트 폴더들 조회 (부모가 없는 폴더들)
     @Query("SELECT f FROM FolderEntity f WHERE f.parent IS NULL AND f.createdBy = :user AND f.deletedAt IS NULL ORDER BY f.name")
     List<FolderEntity> findRootFoldersByUser(@Param("user") UserEntity user);
@@ -39,6 +53,36 @@ public interface FolderRepository extends JpaRepository<FolderEntity, Long> {
         @Param("user") UserEntity user
     );
     
+    // 하위 폴더 경로 일괄 변경: oldPrefix 로 시작하는 경로의 앞부분을 newPrefix 로 교체
+    // (suffixStart 는 oldPrefix 의 문자 수 + 1, likePattern 은 '!' 로 이스케이프)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FolderEntity f SET f.path = CONCAT(:newPrefix, SUBSTRING(f.path, :suffixStart)) " +
+           "WHERE f.createdBy = :user AND f.deletedAt IS NULL AND f.path LIKE :likePattern ESCAPE '!'")
+    int rewritePathPrefix(
+        @Param("user") UserEntity user,
+        @Param("newPrefix") String newPrefix,
+        @Param("suffixStart") int suffixStart,
+        @Param("likePattern") String likePattern
+    );
+    
+    // 폴더와 모든 하위 폴더 ID (부모 관계 재귀 조회, UNION 이므로 잘못된 순환 데이터에서도 종료)
+    @Query(value = "WITH RECURSIVE subtree (id) AS (" +
+                   "SELECT id FROM folders WHERE id = :folderId AND deleted_at IS NULL " +
+                   "UNION SELECT f.id FROM folders f JOIN subtree s ON f.parent_id = s.id WHERE f.deleted_at IS NULL) " +
+                   "SELECT id FROM subtree",
+           nativeQuery = true)
+    List<Long> findSubtreeIds(@Param("folderId") Long folderId);
+
+    // 폴더 일괄 논리적 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE FolderEntity f SET f.deletedAt = :deletedAt " +
+           "WHERE f.id IN :folderIds AND f.createdBy = :user AND f.deletedAt IS NULL")
+    int softDeleteByIdIn(
+        @Param("user") UserEntity user,
+        @Param("folderIds") Collection<Long> folderIds,
+        @Param("deletedAt") LocalDateTime deletedAt
+    );
+    
     // ID로 삭제되지 않은 폴더 조회
     @Query("SELECT f FROM FolderEntity f WHERE f.id = :id AND f.deletedAt IS NULL")
     Optional<FolderEntity> findByIdAndNotDeleted(@Param("id") Long id);
@@ -0,0 +1,26 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+    Optional<IdempotencyKeyEntity> findByUser_IdAndIdemKey(Long userId, String idemKey);
+
+    // 처리 중 상태로 남은 채 오래된 키 정리 (서버 중단 등으로 완료/삭제되지 못한 경우)
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.id = :id " +
+            "AND k.status = com.contract.backend.common.Entity.enumm.IdempotencyStatus.IN_PROGRESS " +
+            "AND k.createdAt < :staleBefore")
+    int deleteIfStale(@Param("id") Long id, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.createdAt < :expiredBefore")
+    int deleteExpired(@Param("expiredBefore") LocalDateTime expiredBefore);
+}
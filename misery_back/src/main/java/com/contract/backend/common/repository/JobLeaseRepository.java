@@ -0,0 +1,23 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.JobLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLeaseEntity, String> {
+
+    // 만료되었거나 이미 자신이 가진 점유만 가져오거나 연장 (행 잠금으로 노드 간 경쟁을 직렬화)
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.owner = :owner, l.lockedUntil = :lockedUntil " +
+           "WHERE l.name = :name AND (l.lockedUntil < :now OR l.owner = :owner)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner,
+                   @Param("now") LocalDateTime now, @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("UPDATE JobLeaseEntity l SET l.lockedUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
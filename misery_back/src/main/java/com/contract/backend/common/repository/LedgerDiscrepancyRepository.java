@@ -0,0 +1,23 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.LedgerDiscrepancyEntity;
+import com.contract.backend.common.Entity.enumm.DiscrepancyType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LedgerDiscrepancyRepository extends JpaRepository<LedgerDiscrepancyEntity, Long> {
+
+    // 미해결 불일치 목록 (최근 발견 순)
+    @Query("SELECT d FROM LedgerDiscrepancyEntity d WHERE d.resolvedAt IS NULL ORDER BY d.detectedAt DESC")
+    Page<LedgerDiscrepancyEntity> findUnresolved(Pageable pageable);
+
+    @Query("SELECT d FROM LedgerDiscrepancyEntity d WHERE d.resolvedAt IS NULL AND d.type = :type ORDER BY d.detectedAt DESC")
+    Page<LedgerDiscrepancyEntity> findUnresolvedByType(@Param("type") DiscrepancyType type, Pageable pageable);
+
+    List<LedgerDiscrepancyEntity> findByContractVersion_IdOrderByDetectedAtDesc(Long contractVersionId);
+}
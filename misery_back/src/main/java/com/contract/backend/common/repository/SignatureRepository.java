@@ -1,10 +1,14 @@
 package com.contract.backend.common.repository;
 
+import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractVersionEntity;
 import com.contract.backend.common.Entity.SignatureEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +18,24 @@ public interface SignatureRepository extends JpaRepository<SignatureEntity, Long
 
     // 특정 계약 버전에 대한 모든 서명 목록 조회
     List<SignatureEntity> findAllByContractVersion(ContractVersionEntity contractVersion);
-}
\ No newline at end of file
+
+    // 여러 버전의 서명을 서명자와 함께 한 번에 조회 (일괄 검증용)
+    @Query("SELECT s FROM SignatureEntity s JOIN FETCH s.signer WHERE s.contractVersion IN :contractVersions")
+    List<SignatureEntity> findAllWithSignerByContractVersionIn(@Param("contractVersions") Collection<ContractVersionEntity> contractVersions);
+
+    // 계약의 모든 버전 서명을 서명자와 함께 한 번에 조회 (상세 조회용, 버전별 분류는 호출 측에서)
+    @Query("SELECT s FROM SignatureEntity s JOIN FETCH s.signer WHERE s.contractVersion.contract = :contract " +
+           "ORDER BY s.signedAt, s.id")
+    List<SignatureEntity> findAllWithSignerByContract(@Param("contract") ContractEntity contract);
+
+    long countByContractVersion(ContractVersionEntity contractVersion);
+
+    // 주어진 버전들 중 사용자가 이미 서명한 버전 ID
+    @Query("SELECT s.contractVersion.id FROM SignatureEntity s WHERE s.signer = :signer AND s.contractVersion.id IN :versionIds")
+    List<Long> findSignedVersionIds(@Param("signer") UserEntity signer, @Param("versionIds") Collection<Long> versionIds);
+
+    // 버전별 서명 수 [contractVersionId, count]
+    @Query("SELECT s.contractVersion.id, COUNT(s) FROM SignatureEntity s WHERE s.contractVersion.id IN :versionIds " +
+           "GROUP BY s.contractVersion.id")
+    List<Object[]> countByContractVersionIdIn(@Param("versionIds") Collection<Long> versionIds);
+}
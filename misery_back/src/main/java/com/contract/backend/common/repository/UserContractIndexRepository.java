@@ -0,0 +1,82 @@
+package com.contract.backend.common.repository;
+
+import com.contract.backend.common.Entity.UserContractIndexEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.dto.ContractListDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserContractIndexRepository extends JpaRepository<UserContractIndexEntity, Long> {
+
+    /**
+     * 내 계약 키셋 페이지. (contract_created_at DESC, contract_id DESC) 순으로 커서 이후 pageable 크기만큼 조회
+     * status / awaitingOnly 조건에 맞는 (user_id, …, contract_created_at, contract_id) 인덱스 범위 스캔으로 처리됩니다.
+     */
+    @Query("SELECT new com.contract.backend.common.dto.ContractListDTO(" +
+           "c.id, c.title, i.contractStatus, i.contractCreatedAt, v.versionNumber) " +
+           "FROM UserContractIndexEntity i JOIN i.contract c LEFT JOIN c.currentVersion v " +
+           "WHERE i.user.id = :userId " +
+           "AND (:status IS NULL OR i.contractStatus = :status) " +
+           "AND (:awaitingOnly = false OR i.awaitingSignature = true) " +
+           "AND (i.contractCreatedAt < :cursorCreatedAt " +
+           "     OR (i.contractCreatedAt = :cursorCreatedAt AND i.contract.id < :cursorId)) " +
+           "ORDER BY i.contractCreatedAt DESC, i.contract.id DESC")
+    List<ContractListDTO> findPageAfter(@Param("userId") Long userId,
+                                        @Param("status") ContractStatus status,
+                                        @Param("awaitingOnly") boolean awaitingOnly,
+                                        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    // 새 버전 등록: 모든 참여자가 다시 서명 대기
+    @Modifying
+    @Query("UPDATE UserContractIndexEntity i SET i.awaitingSignature = true, i.updatedAt = :now " +
+           "WHERE i.contract.id = :contractId")
+    int markAllAwaiting(@Param("contractId") Long contractId, @Param("now") LocalDateTime now);
+
+    // 사용자가 서명한 계약들의 서명 대기 해제
+    @Modifying
+    @Query("UPDATE UserContractIndexEntity i SET i.awaitingSignature = false, i.updatedAt = :now " +
+           "WHERE i.user.id = :userId AND i.contract.id IN :contractIds")
+    int markSigned(@Param("userId") Long userId,
+                   @Param("contractIds") Collection<Long> contractIds,
+                   @Param("now") LocalDateTime now);
+
+    // 서명 완료된 계약: 모든 참여자 행을 CLOSED 로
+    @Modifying
+    @Query("UPDATE UserContractIndexEntity i SET i.contractStatus = com.contract.backend.common.Entity.enumm.ContractStatus.CLOSED, " +
+           "i.awaitingSignature = false, i.updatedAt = :now WHERE i.contract.id IN :contractIds")
+    int markClosed(@Param("contractIds") Collection<Long> contractIds, @Param("now") LocalDateTime now);
+
+    // 삭제된 계약은 목록에서 제외
+    @Modifying
+    @Query("DELETE FROM UserContractIndexEntity i WHERE i.contract.id = :contractId")
+    int deleteByContractId(@Param("contractId") Long contractId);
+
+    // 인덱스 행이 없는 (기존) 참여자 [party_id, contract_id, role, contract_status, created_at, awaiting_signature]
+    @Query(value = "SELECT cp.party_id, c.id, cp.role, c.status, c.created_at, " +
+            "COALESCE(c.status = 'OPEN' AND v.status = 'PENDING_SIGNATURE' AND NOT EXISTS (" +
+            "  SELECT 1 FROM signatures s WHERE s.contract_version_id = v.id AND s.signer_id = cp.party_id), FALSE) " +
+            "FROM contract_parties cp JOIN contracts c ON c.id = cp.contract_id " +
+            "LEFT JOIN contract_versions v ON v.id = c.current_version " +
+            "WHERE c.deleted_at IS NULL AND NOT EXISTS (" +
+            "  SELECT 1 FROM user_contract_index i WHERE i.user_id = cp.party_id AND i.contract_id = c.id) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findMissingPartyRows(@Param("limit") int limit);
+
+    // 참여자로 등록되지 않은 (기존) 작성자 (형식은 findMissingPartyRows 와 같음)
+    @Query(value = "SELECT c.created_by, c.id, 'INITIATOR', c.status, c.created_at, FALSE " +
+            "FROM contracts c WHERE c.deleted_at IS NULL AND NOT EXISTS (" +
+            "  SELECT 1 FROM user_contract_index i WHERE i.user_id = c.created_by AND i.contract_id = c.id) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findMissingCreatorRows(@Param("limit") int limit);
+}
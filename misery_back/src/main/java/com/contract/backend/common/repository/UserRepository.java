@@ -6,14 +6,21 @@ import io.lettuce.core.dynamic.annotation.Param;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<UserEntity,Long> {
     Optional<UserEntity> findByEmail(String email);
+    // 거의 모든 요청에서 호출되므로 쿼리 캐시 사용 (users 테이블 변경 시 Hibernate 가 결과를 무효화)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<UserEntity> findByUuid(String uuid);
+    List<UserEntity> findAllByUuidIn(Collection<String> uuids);
     default Optional<UserEntity> findByUuid(UUID uuid) {
         return findByUuid(uuid.toString());
     }
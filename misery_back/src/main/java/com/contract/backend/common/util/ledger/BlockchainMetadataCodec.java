@@ -0,0 +1,104 @@
+package com.contract.backend.common.util.ledger;
+
+import com.contract.backend.common.dto.BlockchainMetadataDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 블록체인에 기록하는 계약 메타데이터의 정규(canonical) 인코딩.
+ *
+ * 같은 메타데이터는 항상 같은 바이트로 인코딩됩니다.
+ * - 필드 순서 고정 (@JsonPropertyOrder), 공백 없는 UTF-8 JSON
+ * - 서명 목록은 signerUuid 순으로 정렬
+ * - 시각은 초 단위로 잘라 yyyy-MM-dd'T'HH:mm:ss 형식으로 기록
+ *
+ * 앵커링 시 인코딩한 바이트를 그대로 원장에 저장하고 그 해시를 blockchain_records.metadata_hash 에 남기므로,
+ * 검증 시에는 원장에서 읽은 바이트를 재직렬화 없이 해싱하여 비교합니다.
+ * Spring 전역 ObjectMapper 설정에 영향을 받지 않도록 전용 매퍼를 사용합니다.
+ */
+@Component
+public class BlockchainMetadataCodec {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ObjectMapper canonicalMapper;
+
+    public BlockchainMetadataCodec() {
+        JavaTimeModule timeModule = new JavaTimeModule();
+        timeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(TIMESTAMP_FORMAT));
+        this.canonicalMapper = JsonMapper.builder()
+                .addModule(timeModule)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.INDENT_OUTPUT)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    /**
+     * 메타데이터를 정규 형식의 바이트로 인코딩합니다. 입력 DTO 는 변경하지 않습니다.
+     */
+    public byte[] encode(BlockchainMetadataDTO metadata) throws JsonProcessingException {
+        return canonicalMapper.writeValueAsBytes(canonicalize(metadata));
+    }
+
+    // 원장에 기록된 바이트를 DTO 로 해석 (필드 단위 비교용)
+    public BlockchainMetadataDTO decode(byte[] encoded) throws IOException {
+        return canonicalMapper.readValue(encoded, BlockchainMetadataDTO.class);
+    }
+
+    // SHA-256 16진수 문자열
+    public String hash(byte[] encoded) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(encoded);
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private BlockchainMetadataDTO canonicalize(BlockchainMetadataDTO metadata) {
+        List<BlockchainMetadataDTO.SignatureMetadataDTO> signatures = new ArrayList<>();
+        if (metadata.getSignatures() != null) {
+            for (BlockchainMetadataDTO.SignatureMetadataDTO signature : metadata.getSignatures()) {
+                signatures.add(new BlockchainMetadataDTO.SignatureMetadataDTO(
+                        signature.getSignerUuid(),
+                        signature.getSignatureHash(),
+                        truncate(signature.getSignedAt())));
+            }
+        }
+        signatures.sort(Comparator.comparing(BlockchainMetadataDTO.SignatureMetadataDTO::getSignerUuid,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        return new BlockchainMetadataDTO(
+                metadata.getContractVersionId(),
+                metadata.getContractFileHash(),
+                metadata.getContractTitle(),
+                metadata.getCreatorUuid(),
+                signatures,
+                truncate(metadata.getFullySignedAt()));
+    }
+
+    private static LocalDateTime truncate(LocalDateTime timestamp) {
+        return timestamp != null ? timestamp.truncatedTo(ChronoUnit.SECONDS) : null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.contract.backend.common.util.ledger;
+
+import com.contract.backend.common.dto.IntegrityProofBundleDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * 무결성 증명 번들에 서버 서명을 붙입니다.
+ *
+ * 번들의 각 필드는 내보낸 쪽이 주장하는 값일 뿐이므로, 서버 키로 서명한 값만 IntegrityProofVerifier 가 신뢰합니다.
+ * 키는 proof.signing.privateKey(PKCS#8) / proof.signing.publicKey(X.509) 에 Base64(DER 또는 PEM)로 지정합니다.
+ * 지정하지 않으면 기동 시 임시 키를 만들며, 이 경우 재시작 전에 내보낸 번들은 검증되지 않습니다.
+ */
+@Component
+public class IntegrityProofSigner {
+
+    private static final Logger logger = LoggerFactory.getLogger(IntegrityProofSigner.class);
+    public static final String SIGNATURE_ALGORITHM = "SHA256withECDSA";
+    private static final String KEY_ALGORITHM = "EC";
+
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final String keyId;
+
+    public IntegrityProofSigner(@Value("${proof.signing.privateKey:}") String privateKeyText,
+                                @Value("${proof.signing.publicKey:}") String publicKeyText) throws GeneralSecurityException {
+        if (privateKeyText.isBlank() || publicKeyText.isBlank()) {
+            logger.warn("proof.signing keys are not configured; using an ephemeral key (bundles cannot be verified after restart)");
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(KEY_ALGORITHM);
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            this.privateKey = keyPair.getPrivate();
+            this.publicKey = keyPair.getPublic();
+        } else {
+            KeyFactory keyFactory = KeyFactory.getInstance(KEY_ALGORITHM);
+            this.privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodeKey(privateKeyText)));
+            this.publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodeKey(publicKeyText)));
+        }
+        this.keyId = keyIdOf(publicKey);
+    }
+
+    // 번들의 서명 대상 필드를 고정된 순서로 직렬화하고 서명합니다. 서명 후 번들을 바꾸면 검증에 실패합니다.
+    public void sign(IntegrityProofBundleDTO bundle) throws GeneralSecurityException {
+        bundle.setSignatureAlgorithm(SIGNATURE_ALGORITHM);
+        bundle.setSigningKeyId(keyId);
+        Signature signer = Signature.getInstance(SIGNATURE_ALGORITHM);
+        signer.initSign(privateKey);
+        signer.update(signedContent(bundle));
+        bundle.setSignature(signer.sign());
+    }
+
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * 서명 대상 바이트. canonicalMetadata 는 metadataHash 로, metadata 는 canonicalMetadata 와의 비교로 간접적으로 보호됩니다.
+     */
+    static byte[] signedContent(IntegrityProofBundleDTO bundle) {
+        StringBuilder sb = new StringBuilder();
+        append(sb, "formatVersion", bundle.getFormatVersion());
+        append(sb, "hashAlgorithm", bundle.getHashAlgorithm());
+        append(sb, "signingKeyId", bundle.getSigningKeyId());
+        append(sb, "contractId", bundle.getContractId());
+        append(sb, "versionNumber", bundle.getVersionNumber());
+        append(sb, "contractVersionId", bundle.getContractVersionId());
+        append(sb, "fileHash", bundle.getFileHash());
+        append(sb, "metadataHash", bundle.getMetadataHash());
+        append(sb, "txId", bundle.getTxId());
+        append(sb, "blockNumber", bundle.getBlockNumber());
+        append(sb, "anchorStatus", bundle.getAnchorStatus());
+        append(sb, "anchoredAt", format(bundle.getAnchoredAt()));
+        append(sb, "confirmedAt", format(bundle.getConfirmedAt()));
+        append(sb, "exportedAt", format(bundle.getExportedAt()));
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String keyIdOf(PublicKey key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void append(StringBuilder sb, String name, Object value) {
+        sb.append(name).append('=').append(value != null ? value : "").append('\n');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) : null;
+    }
+
+    private static byte[] decodeKey(String text) {
+        String base64 = text.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -0,0 +1,131 @@
+package com.contract.backend.common.util.ledger;
+
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.dto.BlockchainMetadataDTO;
+import com.contract.backend.common.dto.IntegrityProofBundleDTO;
+import com.contract.backend.common.dto.ProofVerificationResultDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 무결성 증명 번들을 DB/원장 조회 없이 검증합니다. (CPU 연산만 수행)
+ *
+ * 먼저 서버 서명을 확인하고, 서명이 맞지 않으면 번들의 어떤 필드(원장 커밋 상태 등)도 신뢰하지 않고 실패로 끝냅니다.
+ * Spring 밖에서도 new IntegrityProofVerifier(new BlockchainMetadataCodec(), 서버 공개키) 로 그대로 사용할 수 있습니다.
+ */
+@Component
+public class IntegrityProofVerifier {
+
+    private final BlockchainMetadataCodec metadataCodec;
+    private final PublicKey signingKey;
+
+    @Autowired
+    public IntegrityProofVerifier(BlockchainMetadataCodec metadataCodec, IntegrityProofSigner signer) {
+        this(metadataCodec, signer.getPublicKey());
+    }
+
+    public IntegrityProofVerifier(BlockchainMetadataCodec metadataCodec, PublicKey signingKey) {
+        this.metadataCodec = metadataCodec;
+        this.signingKey = signingKey;
+    }
+
+    /**
+     * @param bundle      검증할 증명 번들
+     * @param fileContent 계약 파일 원본 (없으면 null, 이 경우 파일 해시 비교는 생략)
+     */
+    public ProofVerificationResultDTO verify(IntegrityProofBundleDTO bundle, byte[] fileContent) {
+        ProofVerificationResultDTO result = new ProofVerificationResultDTO();
+
+        // 0. 서버 서명: 이후 단계에서 비교하는 번들 필드가 서버가 내보낸 값 그대로인지
+        boolean signed = verifySignature(bundle);
+        result.addCheck("signature", signed, "서명 키: " + bundle.getSigningKeyId()
+                + ", 검증 키: " + IntegrityProofSigner.keyIdOf(signingKey));
+        if (!signed) {
+            return finish(result);
+        }
+
+        if (!IntegrityProofBundleDTO.HASH_ALGORITHM.equals(bundle.getHashAlgorithm())) {
+            result.addCheck("hashAlgorithm", false, "지원하지 않는 해시 알고리즘입니다: " + bundle.getHashAlgorithm());
+            return finish(result);
+        }
+        byte[] canonicalMetadata = bundle.getCanonicalMetadata();
+        if (canonicalMetadata == null || canonicalMetadata.length == 0) {
+            result.addCheck("metadataHash", false, "번들에 원장 메타데이터 바이트가 없습니다.");
+            return finish(result);
+        }
+
+        // 1. 원장 바이트의 해시 = 앵커링 시 기록한 metadataHash
+        String computedMetadataHash = metadataCodec.hash(canonicalMetadata);
+        result.addCheck("metadataHash", computedMetadataHash.equals(bundle.getMetadataHash()),
+                "계산된 해시: " + computedMetadataHash + ", 번들 해시: " + bundle.getMetadataHash());
+
+        BlockchainMetadataDTO anchored;
+        try {
+            anchored = metadataCodec.decode(canonicalMetadata);
+        } catch (IOException e) {
+            result.addCheck("metadataFormat", false, "원장 메타데이터를 해석할 수 없습니다: " + e.getMessage());
+            return finish(result);
+        }
+
+        // 2. 원장 메타데이터가 이 번들의 계약 버전과 파일을 가리키는지
+        result.addCheck("contractVersionId", Objects.equals(anchored.getContractVersionId(), bundle.getContractVersionId()),
+                "원장: " + anchored.getContractVersionId() + ", 번들: " + bundle.getContractVersionId());
+        result.addCheck("fileHash", Objects.equals(anchored.getContractFileHash(), bundle.getFileHash()),
+                "원장: " + anchored.getContractFileHash() + ", 번들: " + bundle.getFileHash());
+
+        // 3. 사람이 읽는 metadata(서명 목록 포함)가 원장 바이트와 같은 내용인지 (정규 인코딩끼리 비교)
+        if (bundle.getMetadata() != null) {
+            try {
+                boolean same = Arrays.equals(metadataCodec.encode(anchored), metadataCodec.encode(bundle.getMetadata()));
+                result.addCheck("metadata", same, same
+                        ? "서명 " + sizeOf(anchored) + "건을 포함한 메타데이터가 원장 바이트와 일치합니다."
+                        : "번들의 메타데이터(서명 목록 포함)가 원장 바이트와 다릅니다.");
+            } catch (IOException e) {
+                result.addCheck("metadata", false, "메타데이터 인코딩 실패: " + e.getMessage());
+            }
+        }
+
+        // 4. 원장 커밋이 블록 이벤트로 확인되었는지 (서명된 상태값이므로 내보낼 당시 서버가 확인한 상태)
+        result.addCheck("ledgerCommit", bundle.getAnchorStatus() == AnchorStatus.CONFIRMED,
+                "상태: " + bundle.getAnchorStatus() + ", TxID: " + bundle.getTxId() + ", 블록: " + bundle.getBlockNumber());
+
+        // 5. (선택) 제출된 파일 원본의 해시
+        if (fileContent != null) {
+            String computedFileHash = metadataCodec.hash(fileContent);
+            result.addCheck("fileContent", computedFileHash.equals(anchored.getContractFileHash()),
+                    "파일 해시: " + computedFileHash + ", 원장: " + anchored.getContractFileHash());
+        }
+        return finish(result);
+    }
+
+    private boolean verifySignature(IntegrityProofBundleDTO bundle) {
+        if (bundle.getSignature() == null
+                || !IntegrityProofSigner.SIGNATURE_ALGORITHM.equals(bundle.getSignatureAlgorithm())) {
+            return false;
+        }
+        try {
+            Signature verifier = Signature.getInstance(IntegrityProofSigner.SIGNATURE_ALGORITHM);
+            verifier.initVerify(signingKey);
+            verifier.update(IntegrityProofSigner.signedContent(bundle));
+            return verifier.verify(bundle.getSignature());
+        } catch (GeneralSecurityException e) {
+            return false; // 형식이 잘못된 서명 포함
+        }
+    }
+
+    private static int sizeOf(BlockchainMetadataDTO metadata) {
+        return metadata.getSignatures() != null ? metadata.getSignatures().size() : 0;
+    }
+
+    private static ProofVerificationResultDTO finish(ProofVerificationResultDTO result) {
+        result.setValid(result.getChecks().stream().allMatch(ProofVerificationResultDTO.Check::isPassed));
+        return result;
+    }
+}
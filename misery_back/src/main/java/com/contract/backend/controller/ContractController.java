@@ -3,19 +3,35 @@ package com.contract.backend.controller;
 import com.contract.backend.common.Entity.ContractEntity;
 import com.contract.backend.common.Entity.ContractPartyEntity;
 import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
 import com.contract.backend.common.dto.*;
 import com.contract.backend.common.response.ApiResponse; // 추가 (ApiResponse 사용을 위해)
 import com.contract.backend.service.AuthService;
+import com.contract.backend.service.ContractBulkVerificationService;
+import com.contract.backend.service.ContractBulkVerificationService.VerificationTask;
+import com.contract.backend.service.ContractEventStreamService;
 import com.contract.backend.service.ContractService;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/contracts")
@@ -23,13 +39,26 @@ public class ContractController {
 
     private final ContractService contractService;
     private final AuthService authService;
+    private final ContractBulkVerificationService bulkVerificationService;
+    private final ContractEventStreamService eventStreamService;
+    private final ObjectWriter ndjsonWriter;
+
+    @Value("${verification.bulk.timeoutMs:300000}")
+    private long bulkVerificationTimeoutMs;
 
     public ContractController(
             ContractService contractService,
-            AuthService authService
+            AuthService authService,
+            ContractBulkVerificationService bulkVerificationService,
+            ContractEventStreamService eventStreamService,
+            ObjectMapper objectMapper
     ) {
         this.contractService = contractService;
         this.authService = authService;
+        this.bulkVerificationService = bulkVerificationService;
+        this.eventStreamService = eventStreamService;
+        // NDJSON 은 한 줄에 하나의 JSON 이어야 하므로 전역 indent-output 설정을 끈 writer 사용
+        this.ndjsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
     }
 
     @PostMapping("/upload")
@@ -104,6 +133,100 @@ public class ContractController {
         }
     }
 
+    // 오프라인 검증용 무결성 증명 번들 내보내기
+    @GetMapping("/{contractId}/versions/{versionNumber}/proof")
+    public ResponseEntity<ApiResponse<IntegrityProofBundleDTO>> exportIntegrityProof(
+            @PathVariable Long contractId,
+            @PathVariable int versionNumber,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        try {
+            UserEntity requester = authService.findByUuid(userUuid);
+            IntegrityProofBundleDTO bundle = contractService.exportIntegrityProof(contractId, versionNumber, requester);
+            return ResponseEntity.ok(ApiResponse.success(bundle));
+        } catch (Exception e) {
+            throw new RuntimeException("Proof export failed: " + e.getMessage(), e);
+        }
+    }
+
+    // 오프라인 검증에 쓸 서버 서명 공개키 (X.509 DER, Base64)
+    @GetMapping("/proof/public-key")
+    public ResponseEntity<ApiResponse<ProofSigningKeyDTO>> getProofSigningKey() {
+        return ResponseEntity.ok(ApiResponse.success(contractService.getProofSigningKey()));
+    }
+
+    // 증명 번들 검증 (원장/DB 조회 없음). 계약 파일을 함께 보내면 파일 해시까지 비교합니다.
+    @PostMapping(value = "/proof/verify", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ProofVerificationResultDTO>> verifyIntegrityProof(
+            @RequestPart("bundle") IntegrityProofBundleDTO bundle,
+            @RequestPart(value = "file", required = false) MultipartFile file
+    ) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(contractService.verifyIntegrityProof(bundle, file)));
+        } catch (Exception e) {
+            throw new RuntimeException("Proof verification failed: " + e.getMessage(), e);
+        }
+    }
+
+    // 여러 계약 버전 일괄 검증: 결과를 완료되는 순서대로 한 줄씩(NDJSON) 스트리밍
+    @PostMapping(value = "/verify/bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> verifyContractsInBulk(
+            @RequestBody BulkVerificationRequestDTO request,
+            @AuthenticationPrincipal String userUuid
+    ) {
+        List<VerificationTask> tasks;
+        try {
+            UserEntity requester = authService.findByUuid(userUuid);
+            tasks = bulkVerificationService.prepare(request, requester);
+        } catch (Exception e) {
+            // 스트리밍 시작 전의 요청 오류는 일반 API와 동일하게 GlobalExceptionHandler에서 처리
+            throw new RuntimeException("Bulk verification failed: " + e.getMessage(), e);
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(bulkVerificationTimeoutMs);
+        bulkVerificationService.execute(tasks, result -> {
+            try {
+                emitter.send(ndjsonWriter.writeValueAsString(result) + "\n", MediaType.TEXT_PLAIN);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((ignored, error) -> {
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(emitter);
+    }
+
+    // 내가 참여한 계약의 서명/상태 변경 알림 (SSE). 이벤트에는 식별자만 담기므로 상세는 조회 API 로 다시 읽음
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamContractEvents(@AuthenticationPrincipal String uuid) {
+        return eventStreamService.subscribe(uuid);
+    }
+
+    // 내 계약 목록 키셋 페이지 (COUNT 없이 커서로 다음 페이지 요청, 상태/내 서명 대기 필터)
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<ContractCursorPageDTO>> scrollMyContracts(
+            @AuthenticationPrincipal String uuid,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ContractStatus status,
+            @RequestParam(defaultValue = "false") boolean awaitingMySignature
+    ) {
+        try {
+            ContractCursorPageDTO page = contractService.getContractsForUserAfter(uuid, cursor, size, status, awaitingMySignature);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to retrieve contracts: " + e.getMessage(), e);
+        }
+    }
+
     @GetMapping // 또는 @GetMapping("/my") 등 원하는 경로로 설정 가능
     public ResponseEntity<ApiResponse<Page<ContractListDTO>>> getMyContracts(
             @AuthenticationPrincipal String uuid, // 인증된 사용자 UUID
@@ -5,10 +5,12 @@ import com.contract.backend.common.Entity.ContractVersionEntity;
 import com.contract.backend.common.Entity.UserEntity;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
-import com.contract.backend.common.repository.ContractPartyRepository;
 import com.contract.backend.common.repository.ContractVersionRepository;
 import com.contract.backend.service.AuthService;
+import com.contract.backend.service.ContractAccessCache;
 import com.contract.backend.service.S3StorageService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.InputStreamResource;
@@ -19,10 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -39,21 +38,18 @@ public class ContractFileController {
     private final S3StorageService s3StorageService;
     private final AuthService authService;
     private final ContractVersionRepository contractVersionRepository;
-    private final ContractPartyRepository contractPartyRepository;
-    private final S3Client s3Client;
+    private final ContractAccessCache contractAccessCache;
 
     public ContractFileController(
             S3StorageService s3StorageService,
             AuthService authService,
             ContractVersionRepository contractVersionRepository,
-            ContractPartyRepository contractPartyRepository,
-            S3Client s3Client
+            ContractAccessCache contractAccessCache
     ) {
         this.s3StorageService = s3StorageService;
         this.authService = authService;
         this.contractVersionRepository = contractVersionRepository;
-        this.contractPartyRepository = contractPartyRepository;
-        this.s3Client = s3Client;
+        this.contractAccessCache = contractAccessCache;
     }
 
     /**
@@ -142,11 +138,9 @@ public class ContractFileController {
      */
     private HeadObjectResponse getFileMetadata(String bucketName, String filePath) {
         try {
-            HeadObjectRequest headRequest = HeadObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .build();
-            return s3Client.headObject(headRequest);
+            return s3StorageService.headObject(filePath);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("S3 파일 메타데이터 조회 실패 - bucket: {}, key: {}", bucketName, filePath, e);
             throw new RuntimeException("파일 정보를 가져올 수 없습니다", e);
@@ -158,11 +152,9 @@ public class ContractFileController {
      */
     private ResponseInputStream<GetObjectResponse> downloadFromS3(String bucketName, String filePath) {
         try {
-            GetObjectRequest getRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .build();
-            return s3Client.getObject(getRequest);
+            return s3StorageService.getObject(filePath);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("S3 파일 다운로드 실패 - bucket: {}, key: {}", bucketName, filePath, e);
             throw new RuntimeException("파일을 다운로드할 수 없습니다", e);
@@ -277,12 +269,9 @@ public class ContractFileController {
     private ResponseInputStream<GetObjectResponse> downloadRangeFromS3(
             String bucketName, String filePath, long start, long end) {
         try {
-            GetObjectRequest rangeRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(filePath)
-                    .range("bytes=" + start + "-" + end)
-                    .build();
-            return s3Client.getObject(rangeRequest);
+            return s3StorageService.getObjectRange(filePath, start, end);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("S3 Range 요청 실패 - bucket: {}, key: {}, range: {}-{}", 
                     bucketName, filePath, start, end, e);
@@ -302,13 +291,10 @@ public class ContractFileController {
     }
 
     /**
-     * 사용자 접근 권한 검증
+     * 사용자 접근 권한 검증 (Range 요청마다 호출되므로 계약별 권한 캐시 사용)
      */
     private void validateUserAccess(UserEntity user, ContractEntity contract) {
-        boolean isCreator = contract.getCreatedBy().getId().equals(user.getId());
-        boolean isParticipant = contractPartyRepository.findByContractAndParty(contract, user).isPresent();
-
-        if (!isCreator && !isParticipant) {
+        if (!contractAccessCache.isMember(contract.getId(), user.getId())) {
             logger.warn("파일 접근 권한 없음 - contractId: {}, userUuid: {}", contract.getId(), user.getUuid());
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
@@ -158,8 +158,8 @@ public class FolderController {
         try {
             logger.debug("폴더 트리 조회 API 호출 - userUuid: {}", userUuid);
             
-            // 루트 폴더들을 조회하되 하위 폴더들도 포함
-            List<FolderResponseDTO> folders = folderService.getUserFolders(userUuid, null, true);
+            // 루트 폴더부터 모든 깊이의 하위 폴더 포함
+            List<FolderResponseDTO> folders = folderService.getFolderTree(userUuid);
             return ResponseEntity.ok(ApiResponse.success(folders));
         } catch (Exception e) {
             logger.error("폴더 트리 조회 실패 - userUuid: {}, error: {}", userUuid, e.getMessage(), e);
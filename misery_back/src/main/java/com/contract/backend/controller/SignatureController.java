@@ -2,36 +2,73 @@ package com.contract.backend.controller;
 
 import com.contract.backend.common.Entity.SignatureEntity;
 import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.dto.BatchSignRequestDTO;
+import com.contract.backend.common.dto.BatchSignResultDTO;
 import com.contract.backend.common.response.ApiResponse;
 import com.contract.backend.service.AuthService;
+import com.contract.backend.service.IdempotencyService;
 import com.contract.backend.service.SignatureService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
-@RequestMapping("/api/contracts/{contractId}/sign") // 경로를 이렇게 구성
+@RequestMapping("/api/contracts")
 public class SignatureController {
 
     private final SignatureService signatureService;
     private final AuthService authService;
+    private final IdempotencyService idempotencyService;
 
-    public SignatureController(SignatureService signatureService, AuthService authService) {
+    public SignatureController(SignatureService signatureService, AuthService authService,
+                               IdempotencyService idempotencyService) {
         this.signatureService = signatureService;
         this.authService = authService;
+        this.idempotencyService = idempotencyService;
     }
 
-    @PostMapping
-    public ResponseEntity<ApiResponse<SignatureEntity>> signContract(
+    // Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 응답을 그대로 돌려줌
+    @PostMapping("/{contractId}/sign")
+    public ResponseEntity<?> signContract(
             @PathVariable Long contractId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal String userUuid) { // JWT 토큰에서 사용자 UUID 가져옴
         try {
             UserEntity signer = authService.findByUuid(userUuid);
-            SignatureEntity signature = signatureService.signContract(contractId, signer);
-            return ResponseEntity.ok(ApiResponse.success(signature));
+            if (idempotencyKey == null) {
+                SignatureEntity signature = signatureService.signContract(contractId, signer);
+                return ResponseEntity.ok(ApiResponse.success(signature));
+            }
+            String responseBody = idempotencyService.execute(signer, idempotencyKey, "sign:" + contractId,
+                    () -> ApiResponse.success(signatureService.signContract(contractId, signer)));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(responseBody);
         } catch (Exception e) {
             // GlobalExceptionHandler 에서 처리
             throw new RuntimeException("Failed to sign contract: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    // 여러 계약의 현재 버전에 한 번에 서명 (계약별 결과 반환)
+    @PostMapping("/sign/batch")
+    public ResponseEntity<?> signContracts(
+            @RequestBody BatchSignRequestDTO request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal String userUuid) {
+        try {
+            UserEntity signer = authService.findByUuid(userUuid);
+            if (idempotencyKey == null) {
+                List<BatchSignResultDTO> results = signatureService.signContracts(request.getContractIds(), signer);
+                return ResponseEntity.ok(ApiResponse.success(results));
+            }
+            String fingerprint = IdempotencyService.fingerprint("sign-batch", request.getContractIds());
+            String responseBody = idempotencyService.execute(signer, idempotencyKey, fingerprint,
+                    () -> ApiResponse.success(signatureService.signContracts(request.getContractIds(), signer)));
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(responseBody);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to sign contracts: " + e.getMessage(), e);
+        }
+    }
+}
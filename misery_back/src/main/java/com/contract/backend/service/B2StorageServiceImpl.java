@@ -1,25 +1,46 @@
 package com.contract.backend.service;
 
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+// B2 호출은 "storage" 서킷브레이커/벌크헤드로 보호 (application.yml resilience4j 설정 참고)
+// 객체 조회는 응답 스트림을 닫을 때까지 허가를 유지하므로 어노테이션 대신 직접 적용
 @Service
 public class B2StorageServiceImpl implements S3StorageService {
 
+    private static final String STORAGE = "storage";
+
     private final S3Client s3Client;
+    private final io.github.resilience4j.circuitbreaker.CircuitBreaker circuitBreaker;
+    private final io.github.resilience4j.bulkhead.Bulkhead bulkhead;
 
     @Value("${b2.bucket-name}")
     private String bucketName;
@@ -27,8 +48,12 @@ public class B2StorageServiceImpl implements S3StorageService {
     public B2StorageServiceImpl(
             @Value("${b2.endpoint}") String endpoint,
             @Value("${b2.access-key}") String accessKey,
-            @Value("${b2.secret-key}") String secretKey
+            @Value("${b2.secret-key}") String secretKey,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry
     ) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(STORAGE);
+        this.bulkhead = bulkheadRegistry.bulkhead(STORAGE);
         this.s3Client = S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .credentialsProvider(StaticCredentialsProvider.create(
@@ -39,6 +64,8 @@ public class B2StorageServiceImpl implements S3StorageService {
     }
 
     @Override
+    @CircuitBreaker(name = STORAGE)
+    @Bulkhead(name = STORAGE)
     public String upload(MultipartFile file) throws IOException {
         String key = generateFileKey(file.getOriginalFilename());
 
@@ -58,6 +85,111 @@ public class B2StorageServiceImpl implements S3StorageService {
         return bucketName;
     }
 
+    @Override
+    @CircuitBreaker(name = STORAGE)
+    @Bulkhead(name = STORAGE)
+    public HeadObjectResponse headObject(String key) {
+        return s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObject(String key) {
+        return guardedGetObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @Override
+    public ResponseInputStream<GetObjectResponse> getObjectRange(String key, long start, long end) {
+        return guardedGetObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=" + start + "-" + end)
+                .build());
+    }
+
+    /**
+     * 응답 본문을 클라이언트로 복사하는 동안에도 B2 커넥션을 쓰므로 벌크헤드/서킷브레이커 허가를 스트림이 닫힐 때까지 유지합니다.
+     * 호출 시간은 첫 응답까지로 기록해 느린 클라이언트가 느린 호출로 집계되지 않게 하고,
+     * 본문을 읽다가 B2 쪽 오류가 나면 실패로 기록합니다.
+     */
+    private ResponseInputStream<GetObjectResponse> guardedGetObject(GetObjectRequest request) {
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+        } catch (CallNotPermittedException e) {
+            bulkhead.releasePermission();
+            throw e;
+        }
+        long startedAt = circuitBreaker.getCurrentTimestamp();
+        ResponseInputStream<GetObjectResponse> response;
+        try {
+            response = s3Client.getObject(request);
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - startedAt, circuitBreaker.getTimestampUnit(), e);
+            bulkhead.onComplete();
+            throw e;
+        }
+        long elapsed = circuitBreaker.getCurrentTimestamp() - startedAt;
+        GuardedObjectStream guarded = new GuardedObjectStream(response, elapsed, circuitBreaker.getTimestampUnit());
+        return new ResponseInputStream<>(response.response(), AbortableInputStream.create(guarded, response::abort));
+    }
+
+    // 닫힐 때 한 번만 결과를 기록하고 허가를 반환하는 스트림
+    private class GuardedObjectStream extends FilterInputStream {
+
+        private final long elapsed;
+        private final TimeUnit timestampUnit;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile IOException readFailure;
+
+        GuardedObjectStream(InputStream in, long elapsed, TimeUnit timestampUnit) {
+            super(in);
+            this.elapsed = elapsed;
+            this.timestampUnit = timestampUnit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                readFailure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return in.read(b, off, len);
+            } catch (IOException e) {
+                readFailure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (completed.compareAndSet(false, true)) {
+                    if (readFailure != null) {
+                        circuitBreaker.onError(elapsed, timestampUnit, readFailure);
+                    } else {
+                        circuitBreaker.onSuccess(elapsed, timestampUnit);
+                    }
+                    bulkhead.onComplete();
+                }
+            }
+        }
+    }
+
     private String generateFileKey(String originalFileName) {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
         return "contracts/" + timestamp + "_" + UUID.randomUUID() + "_" + originalFileName;
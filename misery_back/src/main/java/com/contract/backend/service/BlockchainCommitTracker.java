@@ -0,0 +1,232 @@
+package com.contract.backend.service;
+
+import com.contract.backend.service.BlockchainConfirmationService.CommitEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원장에서 들어오는 블록 단위 커밋 이벤트를 모아 blockchain_records 에 일괄 반영합니다.
+ *
+ * 수신한 트랜잭션은 버퍼에 모아 batchSize 또는 flushIntervalMs 마다 한 번에 DB에 반영합니다.
+ * 아직 DB 트랜잭션이 커밋되지 않아 매칭되지 않은 트랜잭션은 matchGraceSeconds 동안 재시도하며,
+ * 체크포인트는 재시도 중인 가장 오래된 블록보다 앞서 나가지 않으므로 재시작 후에도 누락되지 않습니다.
+ * 유예 시간이 지나거나 MAX_DEFERRED 를 넘어 버린 트랜잭션이 이 서비스의 것이었다면 기록은 PENDING 으로 남으며,
+ * 이는 ContractAnchoringService 가 오래된 PENDING 기록을 원장에서 직접 조회하여 정리합니다.
+ * DB 반영과 체크포인트 저장은 버퍼 잠금 밖에서 수행하여 이벤트 수신 스레드(onBlock)를 막지 않습니다.
+ * 이벤트 공급원(Fabric 피어 구독, 시뮬레이션 원장)은 프로파일에 따라 하나만 활성화됩니다.
+ * Fabric 구독은 점유를 가진 노드에서만 실행되며, 점유를 잃으면 pause() 로 처리 상태를 버리고
+ * 다시 가져오면 start() 가 그 사이 다른 노드가 저장한 체크포인트부터 이어갑니다.
+ */
+@Component
+public class BlockchainCommitTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockchainCommitTracker.class);
+    static final String CHECKPOINT_NAME = "fabric-commit-listener";
+    private static final int MAX_DEFERRED = 10_000;
+
+    private final BlockchainConfirmationService confirmationService;
+
+    @Value("${fabric.events.startBlock:0}")
+    private long startBlock;
+
+    @Value("${fabric.events.batchSize:200}")
+    private int batchSize;
+
+    @Value("${fabric.events.flushIntervalMs:1000}")
+    private long flushIntervalMs;
+
+    @Value("${fabric.events.matchGraceSeconds:60}")
+    private long matchGraceSeconds;
+
+    private final Object lock = new Object();          // 버퍼/블록 번호 보호 (짧게만 잡음)
+    private final Object flushLock = new Object();     // flush 직렬화 (DB 작업 동안 잡음)
+    private final List<CommitEvent> pending = new ArrayList<>();
+    private final LinkedHashMap<String, DeferredCommit> deferred = new LinkedHashMap<>();
+    private long nextBlock = -1;
+    private long lastSavedCheckpoint = -1;
+    private volatile ScheduledExecutorService flushScheduler;
+
+    public BlockchainCommitTracker(BlockchainConfirmationService confirmationService) {
+        this.confirmationService = confirmationService;
+    }
+
+    /**
+     * 체크포인트를 읽고 주기적 flush 를 시작합니다. 이미 진행 중이면 현재 위치를 그대로 돌려줍니다.
+     *
+     * @return 이벤트 구독을 재개할 블록 번호
+     */
+    public long start() {
+        synchronized (lock) {
+            if (nextBlock < 0) {
+                nextBlock = confirmationService.loadCheckpoint(CHECKPOINT_NAME).orElse(startBlock);
+                lastSavedCheckpoint = nextBlock;
+            }
+            if (flushScheduler != null) {
+                return nextBlock;
+            }
+
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "blockchain-commit-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushScheduler.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            return nextBlock;
+        }
+    }
+
+    /**
+     * 다른 노드가 이벤트 처리를 이어받을 때 호출합니다. 진행 중인 flush 가 끝나길 기다린 뒤 버퍼와 재시도 목록을 버리며,
+     * 이후 start() 전까지 들어오는 블록과 체크포인트 저장은 무시됩니다. (버린 이벤트는 체크포인트 이후이므로 다시 수신됨)
+     */
+    public void pause() {
+        synchronized (flushLock) {
+            synchronized (lock) {
+                pending.clear();
+                deferred.clear();
+                nextBlock = -1;
+                lastSavedCheckpoint = -1;
+            }
+        }
+    }
+
+    // 연결이 끊겼다가 다시 구독할 때 이어서 읽을 블록 번호
+    public long nextBlock() {
+        synchronized (lock) {
+            return nextBlock;
+        }
+    }
+
+    public void onBlock(long blockNumber, List<CommitEvent> commits) {
+        boolean full;
+        synchronized (lock) {
+            if (nextBlock < 0) {
+                return; // 시작 전 또는 pause() 이후
+            }
+            pending.addAll(commits);
+            nextBlock = Math.max(nextBlock, blockNumber + 1);
+            full = pending.size() >= batchSize;
+        }
+        ScheduledExecutorService scheduler = flushScheduler;
+        if (full && scheduler != null) {
+            try {
+                scheduler.execute(this::flush); // 수신 스레드에서 DB 작업을 하지 않도록 flush 스레드에 맡김
+            } catch (RejectedExecutionException e) {
+                // 종료 중: stop() 에서 마지막으로 flush
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    // 주기적 flush 와 같은 경로 (테스트에서 직접 호출)
+    void flush() {
+        synchronized (flushLock) {
+            try {
+                flushOnce();
+            } catch (Exception e) {
+                logger.error("블록체인 커밋 확인 처리 중 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void flushOnce() {
+        long now = System.currentTimeMillis();
+        long graceMillis = TimeUnit.SECONDS.toMillis(matchGraceSeconds);
+
+        // 1. 잠금 안에서는 처리할 목록만 복사
+        List<CommitEvent> fresh;
+        List<CommitEvent> batch;
+        long blockHorizon;
+        synchronized (lock) {
+            if (nextBlock < 0) {
+                return;
+            }
+            // 유예 시간이 지난 미매칭 트랜잭션은 다른 애플리케이션의 트랜잭션으로 보고 버림
+            deferred.values().removeIf(entry -> now - entry.firstSeenAt > graceMillis);
+            if (pending.isEmpty() && deferred.isEmpty() && nextBlock == lastSavedCheckpoint) {
+                return;
+            }
+            fresh = new ArrayList<>(pending);
+            pending.clear();
+            batch = new ArrayList<>(fresh);
+            for (DeferredCommit entry : deferred.values()) {
+                batch.add(entry.event);
+            }
+            blockHorizon = nextBlock;
+        }
+
+        // 2. DB 반영은 잠금 밖에서
+        Set<String> matched;
+        try {
+            matched = confirmationService.confirm(batch);
+        } catch (Exception e) {
+            logger.error("블록체인 커밋 확인 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage(), e);
+            synchronized (lock) {
+                pending.addAll(0, fresh);
+            }
+            return;
+        }
+
+        // 3. 결과 반영 후 저장할 체크포인트 계산
+        long checkpoint;
+        synchronized (lock) {
+            deferred.keySet().removeAll(matched);
+            for (CommitEvent event : fresh) {
+                if (!matched.contains(event.getTxId())) {
+                    deferred.putIfAbsent(event.getTxId(), new DeferredCommit(event, now));
+                }
+            }
+            while (deferred.size() > MAX_DEFERRED) {
+                Iterator<String> oldest = deferred.keySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            // 아직 DB 에 반영하지 않은 블록(blockHorizon 이후 수신분)과 재시도 중인 블록보다 앞서지 않음
+            checkpoint = blockHorizon;
+            for (CommitEvent event : pending) {
+                checkpoint = Math.min(checkpoint, event.getBlockNumber());
+            }
+            for (DeferredCommit entry : deferred.values()) {
+                checkpoint = Math.min(checkpoint, entry.event.getBlockNumber());
+            }
+            if (checkpoint == lastSavedCheckpoint) {
+                return;
+            }
+        }
+
+        try {
+            confirmationService.saveCheckpoint(CHECKPOINT_NAME, checkpoint);
+            synchronized (lock) {
+                lastSavedCheckpoint = checkpoint;
+            }
+        } catch (Exception e) {
+            logger.error("블록체인 이벤트 체크포인트 저장 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private static class DeferredCommit {
+        final CommitEvent event;
+        final long firstSeenAt;
+
+        DeferredCommit(CommitEvent event, long firstSeenAt) {
+            this.event = event;
+            this.firstSeenAt = firstSeenAt;
+        }
+    }
+}
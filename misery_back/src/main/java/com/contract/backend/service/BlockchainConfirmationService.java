@@ -0,0 +1,122 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainCheckpointEntity;
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.repository.BlockchainCheckpointRepository;
+import com.contract.backend.common.repository.BlockchainRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 원장에서 커밋이 확인된 트랜잭션을 blockchain_records 에 반영합니다.
+ * 블록 이벤트 구독자가 모아 둔 커밋 이벤트를 블록 단위 UPDATE 로 한 번에 처리합니다.
+ */
+@Service
+public class BlockchainConfirmationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockchainConfirmationService.class);
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+    private final BlockchainRecordRepository blockchainRecordRepository;
+    private final BlockchainCheckpointRepository blockchainCheckpointRepository;
+
+    public BlockchainConfirmationService(BlockchainRecordRepository blockchainRecordRepository,
+                                         BlockchainCheckpointRepository blockchainCheckpointRepository) {
+        this.blockchainRecordRepository = blockchainRecordRepository;
+        this.blockchainCheckpointRepository = blockchainCheckpointRepository;
+    }
+
+    /**
+     * 커밋 이벤트를 DB 기록과 매칭하여 확인 상태를 갱신합니다.
+     *
+     * @param commits 블록 이벤트에서 수집한 커밋 정보
+     * @return DB에 기록이 존재하는(이미 확인된 것 포함) 트랜잭션 ID 집합
+     */
+    @Transactional
+    public Set<String> confirm(Collection<CommitEvent> commits) {
+        if (commits.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Map<String, CommitEvent> byTxId = new HashMap<>();
+        for (CommitEvent commit : commits) {
+            byTxId.put(commit.getTxId(), commit);
+        }
+
+        Set<String> known = new HashSet<>();
+        for (List<String> chunk : chunk(new ArrayList<>(byTxId.keySet()))) {
+            known.addAll(blockchainRecordRepository.findTxHashesIn(chunk));
+        }
+        if (known.isEmpty()) {
+            return known;
+        }
+
+        // (블록 번호, 유효 여부) 별로 묶어서 UPDATE 한 번씩 실행
+        Map<Long, Map<Boolean, List<String>>> grouped = new TreeMap<>();
+        for (String txId : known) {
+            CommitEvent commit = byTxId.get(txId);
+            grouped.computeIfAbsent(commit.getBlockNumber(), k -> new HashMap<>())
+                    .computeIfAbsent(commit.isValid(), k -> new ArrayList<>())
+                    .add(txId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<Long, Map<Boolean, List<String>>> blockEntry : grouped.entrySet()) {
+            for (Map.Entry<Boolean, List<String>> statusEntry : blockEntry.getValue().entrySet()) {
+                AnchorStatus status = statusEntry.getKey() ? AnchorStatus.CONFIRMED : AnchorStatus.INVALID;
+                for (List<String> chunk : chunk(statusEntry.getValue())) {
+                    updated += blockchainRecordRepository.markCommitted(chunk, status, blockEntry.getKey(), now);
+                }
+            }
+        }
+        logger.info("블록체인 커밋 확인 반영 - 이벤트: {}, 매칭: {}, 갱신: {}", byTxId.size(), known.size(), updated);
+        return known;
+    }
+
+    @Transactional(readOnly = true)
+    public OptionalLong loadCheckpoint(String name) {
+        return blockchainCheckpointRepository.findById(name)
+                .map(checkpoint -> OptionalLong.of(checkpoint.getPosition()))
+                .orElse(OptionalLong.empty());
+    }
+
+    @Transactional
+    public void saveCheckpoint(String name, long position) {
+        BlockchainCheckpointEntity checkpoint = blockchainCheckpointRepository.findById(name)
+                .orElseGet(() -> new BlockchainCheckpointEntity(name, position));
+        checkpoint.setPosition(position);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        blockchainCheckpointRepository.save(checkpoint);
+    }
+
+    private static List<List<String>> chunk(List<String> values) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            chunks.add(values.subList(i, Math.min(values.size(), i + IN_CLAUSE_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    // 블록 이벤트에서 추출한 트랜잭션 단위 커밋 정보
+    public static class CommitEvent {
+        private final String txId;
+        private final long blockNumber;
+        private final boolean valid;
+
+        public CommitEvent(String txId, long blockNumber, boolean valid) {
+            this.txId = txId;
+            this.blockNumber = blockNumber;
+            this.valid = valid;
+        }
+
+        public String getTxId() { return txId; }
+        public long getBlockNumber() { return blockNumber; }
+        public boolean isValid() { return valid; }
+    }
+}
@@ -1,23 +1,22 @@
 package com.contract.backend.service;
 
-import com.contract.backend.common.dto.BlockchainMetadataDTO; // BlockchainMetadataDTO import 추가
-
 public interface BlockchainService {
     /**
-     * 계약 버전 메타데이터를 블록체인에 기록합니다.
+     * 정규 인코딩된 계약 버전 메타데이터를 바이트 그대로 블록체인에 기록합니다.
      *
-     * @param metadataDto 기록할 메타데이터 DTO
+     * @param contractVersionId 기록 키로 사용할 계약 버전의 데이터베이스 ID
+     * @param canonicalMetadata BlockchainMetadataCodec 으로 인코딩한 메타데이터
      * @return 블록체인 트랜잭션 ID
      * @throws Exception 블록체인 연동 중 발생할 수 있는 예외
      */
-    String recordContractVersionMetadata(BlockchainMetadataDTO metadataDto) throws Exception;
+    String recordContractVersionMetadata(Long contractVersionId, byte[] canonicalMetadata) throws Exception;
 
     /**
-     * 블록체인에서 특정 계약 버전의 메타데이터를 조회합니다.
+     * 블록체인에 기록된 특정 계약 버전의 메타데이터를 저장된 바이트 그대로 조회합니다.
      *
      * @param contractVersionDbId 조회할 계약 버전의 데이터베이스 ID
-     * @return 조회된 메타데이터 DTO
+     * @return 기록된 메타데이터 바이트 (기록이 없으면 null)
      * @throws Exception 블록체인 연동 또는 데이터 조회 중 발생할 수 있는 예외
      */
-    BlockchainMetadataDTO getContractMetadataFromBlockchain(Long contractVersionDbId) throws Exception;
+    byte[] getContractMetadataBytesFromBlockchain(Long contractVersionDbId) throws Exception;
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.datasource.ReadWriteRoutingDataSource;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 계약별 접근 가능 사용자(생성자 + 참여자) ID 의 노드 로컬 캐시.
+ *
+ * 파일 미리보기의 Range 요청처럼 같은 계약에 짧은 간격으로 반복되는 권한 확인을 메모리에서 처리합니다.
+ * 참여자가 바뀌면 커밋 후 Redis 채널로 모든 노드에 무효화를 알리고(ContractEventRelay),
+ * 메시지를 놓친 경우에도 ttlSeconds 가 지나면 다시 조회합니다.
+ * 무효화는 진행 중인 로딩이 끝난 뒤 적용되고 로딩은 프라이머리에서 하므로 커밋 이전 목록이 남지 않습니다.
+ * 로딩은 별도 트랜잭션(REQUIRES_NEW)으로 하므로 호출자 트랜잭션이 이미 복제본 커넥션을 쓰고 있어도 프라이머리에서 읽습니다.
+ * 쓰기 경로의 권한 확인은 캐시를 쓰지 않고 DB 로 확인합니다.
+ */
+@Service
+public class ContractAccessCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractAccessCache.class);
+
+    private final ContractPartyRepository contractPartyRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate loadTransaction;
+    private Cache<Long, Set<Long>> members;
+
+    @Value("${contract.acl.maxSize:50000}")
+    private long maxSize;
+
+    @Value("${contract.acl.ttlSeconds:60}")
+    private long ttlSeconds;
+
+    @Value("${contract.acl.channel:contract-acl-invalidation}")
+    private String channel;
+
+    public ContractAccessCache(ContractPartyRepository contractPartyRepository,
+                               StringRedisTemplate redisTemplate,
+                               MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.contractPartyRepository = contractPartyRepository;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "contractAcl");
+    }
+
+    public boolean isMember(Long contractId, Long userId) {
+        Set<Long> memberIds = members.get(contractId, id -> ReadWriteRoutingDataSource.callOnPrimary(() ->
+                loadTransaction.execute(status -> Set.copyOf(contractPartyRepository.findMemberIdsByContractId(id)))));
+        return memberIds.contains(userId);
+    }
+
+    /**
+     * 커밋된 참여자 변경 반영: 이 노드에서 바로 제거하고 다른 노드에 알립니다.
+     */
+    public void invalidate(Long contractId) {
+        members.invalidate(contractId);
+        try {
+            redisTemplate.convertAndSend(channel, String.valueOf(contractId));
+        } catch (Exception e) {
+            // 다른 노드는 TTL 이 지날 때까지 이전 목록을 사용할 수 있음
+            logger.error("Failed to publish ACL invalidation for contract {}: {}", contractId, e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 받은 무효화 (RedisEventConfig)
+    public void evictLocal(String contractId) {
+        try {
+            members.invalidate(Long.valueOf(contractId));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring malformed ACL invalidation message: {}", contractId);
+        }
+    }
+}
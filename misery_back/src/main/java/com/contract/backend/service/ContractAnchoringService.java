@@ -0,0 +1,321 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainRecordEntity;
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.SignatureEntity;
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.datasource.ReadWriteRoutingDataSource;
+import com.contract.backend.common.dto.BlockchainMetadataDTO;
+import com.contract.backend.common.repository.BlockchainRecordRepository;
+import com.contract.backend.common.repository.ContractVersionRepository;
+import com.contract.backend.common.repository.SignatureRepository;
+import com.contract.backend.common.util.ledger.BlockchainMetadataCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 서명이 완료된(SIGNED) 계약 버전의 메타데이터를 원장에 기록합니다.
+ *
+ * 서명 트랜잭션이 커밋된 뒤에 실행되므로 원장 호출 동안 계약/버전 행 잠금을 잡고 있지 않으며,
+ * 서명 커밋 이후 실패는 SIGNED 이면서 blockchain_records 가 없는 버전을 주기적으로 다시 앵커링하여 복구합니다.
+ * 메타데이터는 커밋된 서명만으로 결정적으로 만들어지므로(fullySignedAt = 마지막 서명 시각) 같은 버전은
+ * 항상 같은 바이트가 되고, 이전 시도가 원장 기록 후 DB 저장 전에 중단된 경우에도 원장의 같은 바이트를 확인해
+ * 그대로 채택합니다. 원장 키(CONTRACT_VERSION_{id})는 체인코드에서 한 번만 생성되므로 중복 기록되지 않습니다.
+ * 블록 검증에서 무효(INVALID, 예: MVCC 충돌)로 확인된 기록은 재시도 대상이 되어 새 트랜잭션 ID 로 교체되고,
+ * 블록 이벤트로 확인되지 않은 채 pendingTimeoutMinutes 가 지난 PENDING 기록은 원장을 직접 조회해 확정하거나 INVALID 로 돌립니다.
+ */
+@Service
+public class ContractAnchoringService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractAnchoringService.class);
+    private static final String RETRY_LEASE_NAME = "anchoring-retry";
+    static final String UNKNOWN_TX_ID = "UNKNOWN_TX_ID";
+
+    private final ContractVersionRepository contractVersionRepository;
+    private final SignatureRepository signatureRepository;
+    private final BlockchainRecordRepository blockchainRecordRepository;
+    private final BlockchainService blockchainService;
+    private final BlockchainMetadataCodec metadataCodec;
+    private final TransactionTemplate readTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final JobLeaseService jobLeaseService;
+
+    @Value("${anchoring.retry.enabled:true}")
+    private boolean retryEnabled;
+
+    @Value("${anchoring.retry.batchSize:50}")
+    private int retryBatchSize;
+
+    // 마지막 서명 후 이 시간이 지나도 기록이 없으면 재시도 대상 (진행 중인 커밋 후 앵커링과 겹치지 않도록)
+    @Value("${anchoring.retry.graceSeconds:120}")
+    private long retryGraceSeconds;
+
+    // 블록 이벤트로 확인되지 않은 PENDING 기록을 원장에서 직접 확인하기까지의 시간 (fabric.events.matchGraceSeconds 보다 길게)
+    @Value("${anchoring.retry.pendingTimeoutMinutes:10}")
+    private long pendingTimeoutMinutes;
+
+    // 재시도 작업의 노드 간 점유 유지 시간 (한 번 실행하는 시간보다 충분히 길게)
+    @Value("${anchoring.retry.leaseSeconds:300}")
+    private long retryLeaseSeconds;
+
+    public ContractAnchoringService(ContractVersionRepository contractVersionRepository,
+                                    SignatureRepository signatureRepository,
+                                    BlockchainRecordRepository blockchainRecordRepository,
+                                    @Qualifier("blockchainService") BlockchainService blockchainService,
+                                    BlockchainMetadataCodec metadataCodec,
+                                    PlatformTransactionManager transactionManager,
+                                    JobLeaseService jobLeaseService) {
+        this.contractVersionRepository = contractVersionRepository;
+        this.signatureRepository = signatureRepository;
+        this.blockchainRecordRepository = blockchainRecordRepository;
+        this.blockchainService = blockchainService;
+        this.metadataCodec = metadataCodec;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 앵커링합니다. (롤백되면 아무것도 하지 않음, 트랜잭션 밖이면 즉시 실행)
+     * 실패는 로그만 남기고 재시도 작업에 맡깁니다.
+     */
+    public void anchorAfterCommit(Collection<Long> contractVersionIds) {
+        List<Long> ids = new ArrayList<>(contractVersionIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anchorAll(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anchorAll(ids);
+            }
+        });
+    }
+
+    private void anchorAll(List<Long> contractVersionIds) {
+        for (Long contractVersionId : contractVersionIds) {
+            try {
+                anchor(contractVersionId);
+            } catch (Exception e) {
+                logger.error("계약 버전 ID {}의 블록체인 메타데이터 기록 실패 (재시도 예정): {}", contractVersionId, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * SIGNED 버전 하나를 앵커링합니다. 이미 유효한 기록이 있거나 SIGNED 가 아니면 아무것도 하지 않습니다.
+     */
+    public void anchor(Long contractVersionId) throws Exception {
+        // 커밋 직후 호출되므로 SIGNED 상태가 아직 없을 수 있는 복제본 대신 프라이머리에서 읽음
+        PreparedAnchor prepared = ReadWriteRoutingDataSource.callOnPrimary(() ->
+                readTransaction.execute(status -> prepare(contractVersionId)));
+        if (prepared == null) {
+            return;
+        }
+
+        logger.info("블록체인에 메타데이터 기록을 시작합니다. 계약 버전 ID: {}, 메타데이터 해시: {}", contractVersionId, prepared.metadataHash);
+        String txHash;
+        boolean adopted = false;
+        try {
+            txHash = blockchainService.recordContractVersionMetadata(contractVersionId, prepared.encodedMetadata);
+        } catch (Exception e) {
+            if (!isSameRecordOnLedger(contractVersionId, prepared.metadataHash)) {
+                throw e;
+            }
+            logger.warn("계약 버전 ID {}의 메타데이터가 이전 시도로 이미 원장에 기록되어 있어 그대로 채택합니다.", contractVersionId);
+            txHash = UNKNOWN_TX_ID;
+            adopted = true;
+        }
+
+        String recordedTxHash = txHash;
+        boolean confirmed = adopted;
+        writeTransaction.executeWithoutResult(status -> {
+            BlockchainRecordEntity record = blockchainRecordRepository.findByContractVersion_Id(contractVersionId).orElse(null);
+            if (record != null && record.getAnchorStatus() != AnchorStatus.INVALID) {
+                return;
+            }
+            if (record == null) {
+                ContractVersionEntity version = contractVersionRepository.getReferenceById(contractVersionId);
+                record = new BlockchainRecordEntity(version, prepared.metadataHash, recordedTxHash);
+            } else { // 무효로 확인된 이전 시도를 새 트랜잭션으로 교체
+                logger.info("계약 버전 ID {}의 무효 기록(TxID: {})을 새 트랜잭션으로 교체합니다.", contractVersionId, record.getTxHash());
+                record.setMetadataHash(prepared.metadataHash);
+                record.setTxHash(recordedTxHash);
+                record.setRecordedAt(LocalDateTime.now());
+                record.setAnchorStatus(AnchorStatus.PENDING);
+                record.setBlockNumber(null);
+                record.setConfirmedAt(null);
+            }
+            if (confirmed) { // 원장에서 읽어 확인한 기록 (블록 번호는 알 수 없음)
+                record.setAnchorStatus(AnchorStatus.CONFIRMED);
+                record.setConfirmedAt(LocalDateTime.now());
+            }
+            blockchainRecordRepository.save(record);
+        });
+        logger.info("계약 버전 ID {}의 메타데이터가 블록체인에 성공적으로 기록되었습니다. TxHash: {}", contractVersionId, recordedTxHash);
+    }
+
+    // 서명 커밋 후 앵커링에 실패했거나 무효로 확인된 버전 재시도 (여러 노드 중 점유를 가진 한 노드만 실행)
+    @Scheduled(initialDelayString = "${anchoring.retry.initialDelayMs:60000}",
+            fixedDelayString = "${anchoring.retry.intervalMs:60000}")
+    public void retryUnanchored() {
+        if (!retryEnabled || !jobLeaseService.tryAcquire(RETRY_LEASE_NAME, Duration.ofSeconds(retryLeaseSeconds))) {
+            return;
+        }
+        try {
+            retryUnanchoredLeased();
+        } finally {
+            jobLeaseService.release(RETRY_LEASE_NAME);
+        }
+    }
+
+    private void retryUnanchoredLeased() {
+        try {
+            resolveStalePending();
+        } catch (CallNotPermittedException e) {
+            logger.warn("Ledger circuit open, postponing anchoring retries");
+            return;
+        } catch (Exception e) {
+            logger.error("Stale pending anchor check failed: {}", e.getMessage(), e);
+        }
+        // 원장 조회로 시간이 지났을 수 있으므로 재제출 전에 점유 연장
+        if (!jobLeaseService.tryAcquire(RETRY_LEASE_NAME, Duration.ofSeconds(retryLeaseSeconds))) {
+            logger.warn("Anchoring retry lease lost, skipping resubmission");
+            return;
+        }
+        try {
+            LocalDateTime signedBefore = LocalDateTime.now().minusSeconds(retryGraceSeconds);
+            List<Long> pending = readTransaction.execute(status -> contractVersionRepository
+                    .findSignedWithoutValidBlockchainRecord(signedBefore, PageRequest.of(0, retryBatchSize)));
+            for (Long contractVersionId : pending) {
+                try {
+                    anchor(contractVersionId);
+                } catch (CallNotPermittedException e) {
+                    logger.warn("Ledger circuit open, postponing anchoring retries");
+                    return;
+                } catch (Exception e) {
+                    logger.warn("Anchoring retry failed for contract version {}: {}", contractVersionId, e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            logger.error("Anchoring retry run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 블록 이벤트로 확인되지 않은 오래된 PENDING 기록을 원장에서 직접 확인합니다.
+     * (이벤트 누락, 유예 시간 초과 등으로 추적에서 빠진 경우)
+     * - 원장에 같은 바이트가 있음: CONFIRMED (블록 번호는 알 수 없음)
+     * - 원장에 없음: 커밋되지 않은 트랜잭션이므로 INVALID → 이어지는 재시도에서 다시 앵커링
+     * - 다른 바이트가 있음: 그대로 두고 정합성 점검(LedgerReconciliationService)에 맡김
+     */
+    void resolveStalePending() throws Exception {
+        LocalDateTime recordedBefore = LocalDateTime.now().minusMinutes(pendingTimeoutMinutes);
+        List<BlockchainRecordEntity> stale = readTransaction.execute(status ->
+                blockchainRecordRepository.findStalePending(recordedBefore, PageRequest.of(0, retryBatchSize)));
+        for (BlockchainRecordEntity record : stale) {
+            Long contractVersionId = record.getContractVersion().getId();
+            byte[] onLedger = blockchainService.getContractMetadataBytesFromBlockchain(contractVersionId);
+            AnchorStatus resolved;
+            if (onLedger == null) {
+                resolved = AnchorStatus.INVALID;
+            } else if (metadataCodec.hash(onLedger).equals(record.getMetadataHash())) {
+                resolved = AnchorStatus.CONFIRMED;
+            } else {
+                logger.warn("계약 버전 ID {}의 원장 메타데이터가 PENDING 기록과 다릅니다. (TxID: {})", contractVersionId, record.getTxHash());
+                continue;
+            }
+            LocalDateTime confirmedAt = resolved == AnchorStatus.CONFIRMED ? LocalDateTime.now() : null;
+            writeTransaction.executeWithoutResult(status ->
+                    blockchainRecordRepository.resolvePending(record.getId(), resolved, confirmedAt));
+            logger.info("오래된 PENDING 기록을 원장 조회로 정리했습니다. 계약 버전 ID: {}, TxID: {}, 결과: {}",
+                    contractVersionId, record.getTxHash(), resolved);
+        }
+    }
+
+    private PreparedAnchor prepare(Long contractVersionId) {
+        ContractVersionEntity version = contractVersionRepository.findById(contractVersionId).orElse(null);
+        if (version == null || version.getStatus() != VersionStatus.SIGNED
+                || blockchainRecordRepository.existsByContractVersion_IdAndAnchorStatusNot(contractVersionId, AnchorStatus.INVALID)) {
+            return null;
+        }
+        ContractEntity contract = version.getContract();
+        List<SignatureEntity> signatures = signatureRepository.findAllWithSignerByContractVersionIn(List.of(version));
+
+        List<BlockchainMetadataDTO.SignatureMetadataDTO> signatureMetadataDTOs = signatures.stream()
+                .map(sig -> new BlockchainMetadataDTO.SignatureMetadataDTO(
+                        sig.getSigner().getUuid(),
+                        sig.getSignatureHash(),
+                        sig.getSignedAt()))
+                .collect(Collectors.toList());
+        LocalDateTime fullySignedAt = signatures.stream()
+                .map(SignatureEntity::getSignedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+
+        BlockchainMetadataDTO metadataForBlockchain = new BlockchainMetadataDTO(
+                version.getId(),
+                version.getFileHash(),
+                contract.getTitle(),
+                contract.getCreatedBy().getUuid(),
+                signatureMetadataDTOs,
+                fullySignedAt
+        );
+
+        // 정규 인코딩은 한 번만 수행하고, 같은 바이트를 해싱하고 원장에 기록
+        try {
+            byte[] encodedMetadata = metadataCodec.encode(metadataForBlockchain);
+            return new PreparedAnchor(encodedMetadata, metadataCodec.hash(encodedMetadata));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isSameRecordOnLedger(Long contractVersionId, String metadataHash) {
+        try {
+            byte[] existing = blockchainService.getContractMetadataBytesFromBlockchain(contractVersionId);
+            return existing != null && metadataCodec.hash(existing).equals(metadataHash);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static class PreparedAnchor {
+        final byte[] encodedMetadata;
+        final String metadataHash;
+
+        PreparedAnchor(byte[] encodedMetadata, String metadataHash) {
+            this.encodedMetadata = encodedMetadata;
+            this.metadataHash = metadataHash;
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.*;
+import com.contract.backend.common.dto.BulkVerificationRequestDTO;
+import com.contract.backend.common.dto.BulkVerificationRequestDTO.VerificationTarget;
+import com.contract.backend.common.dto.BulkVerificationResultDTO;
+import com.contract.backend.common.dto.ContractIntegrityVerificationDTO;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.repository.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 계약 버전의 무결성을 한 번에 검증합니다.
+ *
+ * DB 데이터는 대상 전체를 IN 조회로 한 번에 읽고(prepare), 원장 조회는 크기가 제한된 전용 풀에서
+ * 병렬로 수행하여 끝나는 순서대로 결과를 전달합니다(execute). 비교 로직은 단건 검증과 같은
+ * ContractService.evaluateIntegrity 를 사용합니다.
+ */
+@Service
+public class ContractBulkVerificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractBulkVerificationService.class);
+
+    private final ContractService contractService;
+    private final ContractRepository contractRepository;
+    private final ContractVersionRepository contractVersionRepository;
+    private final ContractPartyRepository contractPartyRepository;
+    private final BlockchainRecordRepository blockchainRecordRepository;
+    private final SignatureRepository signatureRepository;
+    private final FolderRepository folderRepository;
+    private final FolderContractRepository folderContractRepository;
+    private final BlockchainService blockchainService;
+
+    // 원장 조회 동시 실행 수 (모든 일괄 검증 요청이 공유)
+    @Value("${verification.bulk.parallelism:8}")
+    private int parallelism;
+
+    // 대기 가능한 원장 조회 수, 초과 시 해당 항목은 즉시 실패 처리
+    @Value("${verification.bulk.queueCapacity:1000}")
+    private int queueCapacity;
+
+    // 요청 하나에 포함할 수 있는 최대 검증 대상 수
+    @Value("${verification.bulk.maxTargets:500}")
+    private int maxTargets;
+
+    private ThreadPoolExecutor ledgerReadExecutor;
+
+    public ContractBulkVerificationService(
+            ContractService contractService,
+            ContractRepository contractRepository,
+            ContractVersionRepository contractVersionRepository,
+            ContractPartyRepository contractPartyRepository,
+            BlockchainRecordRepository blockchainRecordRepository,
+            SignatureRepository signatureRepository,
+            FolderRepository folderRepository,
+            FolderContractRepository folderContractRepository,
+            @Qualifier("blockchainService") BlockchainService blockchainService) {
+        this.contractService = contractService;
+        this.contractRepository = contractRepository;
+        this.contractVersionRepository = contractVersionRepository;
+        this.contractPartyRepository = contractPartyRepository;
+        this.blockchainRecordRepository = blockchainRecordRepository;
+        this.signatureRepository = signatureRepository;
+        this.folderRepository = folderRepository;
+        this.folderContractRepository = folderContractRepository;
+        this.blockchainService = blockchainService;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ledgerReadExecutor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-verification-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ledgerReadExecutor != null) {
+            ledgerReadExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 검증 대상을 확정하고 비교에 필요한 DB 데이터를 일괄 로딩합니다.
+     * 요청 자체가 잘못된 경우에만 예외를 던지며, 대상별 문제(없음/권한 없음)는 결과 항목으로 반환됩니다.
+     */
+    @Transactional(readOnly = true)
+    public List<VerificationTask> prepare(BulkVerificationRequestDTO request, UserEntity requester) {
+        boolean hasTargets = request.getTargets() != null && !request.getTargets().isEmpty();
+        boolean hasFolder = request.getFolderId() != null;
+        if (hasTargets == hasFolder) {
+            throw new CustomException(CustomExceptionEnum.INVALID_BULK_VERIFICATION_REQUEST);
+        }
+
+        List<VerificationTarget> targets;
+        if (hasFolder) {
+            FolderEntity folder = folderRepository.findByIdAndNotDeleted(request.getFolderId())
+                    .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
+            if (!folder.getCreatedBy().getId().equals(requester.getId())) {
+                throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+            }
+            // 폴더 단위 검증은 각 계약의 현재 버전을 대상으로 함
+            targets = folderContractRepository.findContractIdsByFolder(folder).stream()
+                    .map(contractId -> new VerificationTarget(contractId, null))
+                    .collect(Collectors.toList());
+        } else {
+            targets = request.getTargets();
+        }
+        if (targets.size() > maxTargets) {
+            throw new CustomException(CustomExceptionEnum.BULK_VERIFICATION_LIMIT_EXCEEDED);
+        }
+
+        Set<Long> contractIds = targets.stream()
+                .map(VerificationTarget::getContractId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, ContractEntity> contracts = new HashMap<>();
+        if (!contractIds.isEmpty()) {
+            for (ContractEntity contract : contractRepository.findAllWithCreatorByIdInAndNotDeleted(contractIds)) {
+                contracts.put(contract.getId(), contract);
+            }
+        }
+
+        Set<Long> accessibleIds = new HashSet<>();
+        if (!contracts.isEmpty()) {
+            accessibleIds.addAll(contractPartyRepository.findContractIdsByPartyAndContractIdIn(requester, contracts.keySet()));
+            for (ContractEntity contract : contracts.values()) {
+                if (contract.getCreatedBy().getId().equals(requester.getId())) {
+                    accessibleIds.add(contract.getId());
+                }
+            }
+        }
+
+        Map<Long, ContractVersionEntity> versionsById = new HashMap<>();
+        Map<Long, Map<Integer, ContractVersionEntity>> versionsByContract = new HashMap<>();
+        if (!accessibleIds.isEmpty()) {
+            for (ContractVersionEntity version : contractVersionRepository.findAllByContractIdIn(accessibleIds)) {
+                versionsById.put(version.getId(), version);
+                versionsByContract.computeIfAbsent(version.getContract().getId(), k -> new HashMap<>())
+                        .put(version.getVersionNumber(), version);
+            }
+        }
+
+        List<VerificationTask> tasks = new ArrayList<>(targets.size());
+        Set<ContractVersionEntity> resolvedVersions = new HashSet<>();
+        for (VerificationTarget target : targets) {
+            Long contractId = target.getContractId();
+            ContractEntity contract = contractId != null ? contracts.get(contractId) : null;
+            if (contract == null) {
+                tasks.add(VerificationTask.failed(contractId, target.getVersionNumber(), CustomExceptionEnum.CONTRACT_NOT_FOUND));
+                continue;
+            }
+            if (!accessibleIds.contains(contractId)) {
+                tasks.add(VerificationTask.failed(contractId, target.getVersionNumber(), CustomExceptionEnum.UNAUTHORIZED));
+                continue;
+            }
+
+            // 버전 번호를 생략하면 현재 버전을 검증
+            ContractVersionEntity version;
+            if (target.getVersionNumber() != null) {
+                version = versionsByContract.getOrDefault(contractId, Collections.emptyMap()).get(target.getVersionNumber());
+            } else {
+                version = contract.getCurrentVersion() != null ? versionsById.get(contract.getCurrentVersion().getId()) : null;
+            }
+            if (version == null) {
+                tasks.add(VerificationTask.failed(contractId, target.getVersionNumber(), CustomExceptionEnum.VERSION_NOT_FOUND));
+                continue;
+            }
+            tasks.add(new VerificationTask(contract, version));
+            resolvedVersions.add(version);
+        }
+
+        if (!resolvedVersions.isEmpty()) {
+            Map<Long, BlockchainRecordEntity> recordsByVersionId = new HashMap<>();
+            for (BlockchainRecordEntity record : blockchainRecordRepository.findAllByContractVersionIn(resolvedVersions)) {
+                recordsByVersionId.putIfAbsent(record.getContractVersion().getId(), record);
+            }
+            Map<Long, List<SignatureEntity>> signaturesByVersionId = signatureRepository
+                    .findAllWithSignerByContractVersionIn(resolvedVersions).stream()
+                    .collect(Collectors.groupingBy(signature -> signature.getContractVersion().getId()));
+
+            for (VerificationTask task : tasks) {
+                if (task.version != null) {
+                    task.record = recordsByVersionId.get(task.version.getId());
+                    task.signatures = signaturesByVersionId.getOrDefault(task.version.getId(), Collections.emptyList());
+                }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * 원장 조회가 필요한 항목은 전용 풀에서 병렬로 검증하고, 결과가 나오는 대로 sink 에 전달합니다.
+     * sink 가 예외를 던지면(클라이언트 연결 종료 등) 아직 시작하지 않은 원장 조회는 건너뜁니다.
+     *
+     * @return 모든 항목의 결과 전달이 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> execute(List<VerificationTask> tasks, Consumer<BulkVerificationResultDTO> sink) {
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        Consumer<BulkVerificationResultDTO> guardedSink = result -> {
+            if (aborted.get()) {
+                return;
+            }
+            try {
+                sink.accept(result);
+            } catch (RuntimeException e) {
+                if (aborted.compareAndSet(false, true)) {
+                    logger.info("Bulk verification aborted, result delivery failed: {}", e.getMessage());
+                }
+            }
+        };
+
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (VerificationTask task : tasks) {
+            if (task.error != null) {
+                guardedSink.accept(BulkVerificationResultDTO.failed(
+                        task.contractId, task.versionNumber, task.error.name(), task.error.getMessage()));
+                continue;
+            }
+            if (task.record == null) {
+                guardedSink.accept(BulkVerificationResultDTO.verified(
+                        task.contractId, task.versionNumber, contractService.recordNotFoundResult(task.version.getId())));
+                continue;
+            }
+            try {
+                pending.add(CompletableFuture.runAsync(() -> {
+                    if (!aborted.get()) {
+                        guardedSink.accept(verify(task));
+                    }
+                }, ledgerReadExecutor));
+            } catch (RejectedExecutionException e) {
+                CustomExceptionEnum busy = CustomExceptionEnum.EXTERNAL_SERVICE_UNAVAILABLE;
+                guardedSink.accept(BulkVerificationResultDTO.failed(
+                        task.contractId, task.versionNumber, busy.name(), busy.getMessage()));
+            }
+        }
+        return CompletableFuture.allOf(pending.toArray(new CompletableFuture[0]));
+    }
+
+    private BulkVerificationResultDTO verify(VerificationTask task) {
+        try {
+            byte[] metadataBytesFromChain = null;
+            Exception ledgerError = null;
+            try {
+                metadataBytesFromChain = blockchainService.getContractMetadataBytesFromBlockchain(task.version.getId());
+            } catch (Exception e) {
+                ledgerError = e;
+            }
+            ContractIntegrityVerificationDTO verification = contractService.evaluateIntegrity(
+                    task.contract, task.version, task.record, task.signatures, metadataBytesFromChain, ledgerError);
+            return BulkVerificationResultDTO.verified(task.contractId, task.versionNumber, verification);
+        } catch (RuntimeException e) {
+            logger.error("Bulk verification failed for versionId {}: {}", task.version.getId(), e.getMessage(), e);
+            return BulkVerificationResultDTO.failed(task.contractId, task.versionNumber, "VERIFICATION_ERROR", e.getMessage());
+        }
+    }
+
+    // prepare 에서 확정된 검증 대상 하나 (필요한 연관 엔티티는 모두 로딩된 상태)
+    public static class VerificationTask {
+        private final Long contractId;
+        private final Integer versionNumber;
+        private final CustomExceptionEnum error;
+        private final ContractEntity contract;
+        private final ContractVersionEntity version;
+        private BlockchainRecordEntity record;
+        private List<SignatureEntity> signatures = Collections.emptyList();
+
+        private VerificationTask(ContractEntity contract, ContractVersionEntity version) {
+            this.contractId = contract.getId();
+            this.versionNumber = version.getVersionNumber();
+            this.error = null;
+            this.contract = contract;
+            this.version = version;
+        }
+
+        private VerificationTask(Long contractId, Integer versionNumber, CustomExceptionEnum error) {
+            this.contractId = contractId;
+            this.versionNumber = versionNumber;
+            this.error = error;
+            this.contract = null;
+            this.version = null;
+        }
+
+        private static VerificationTask failed(Long contractId, Integer versionNumber, CustomExceptionEnum error) {
+            return new VerificationTask(contractId, versionNumber, error);
+        }
+    }
+}
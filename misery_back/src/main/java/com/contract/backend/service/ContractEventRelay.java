@@ -0,0 +1,93 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.datasource.ReadWriteRoutingDataSource;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractEventMessage;
+import com.contract.backend.common.event.ContractEventType;
+import com.contract.backend.common.repository.ContractPartyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 커밋된 계약 변경 이벤트를 Redis pub/sub 채널로 내보냅니다.
+ *
+ * 롤백된 변경은 알리지 않도록 커밋 이후에만 실행되며, 수신자(계약 참여자)는 여기서 한 번 조회해 메시지에 담습니다.
+ * 알림보다 먼저 응답 캐시 스탬프를 올려, 알림을 받은 클라이언트가 다시 조회할 때 새 내용을 받도록 합니다.
+ * 참여자가 바뀌는 이벤트(참여자 추가, 삭제)는 접근 권한 캐시도 무효화합니다.
+ * Redis 전송 실패는 로그만 남깁니다. (알림은 최선 노력이며, 클라이언트는 재연결 시 조회 API 로 상태를 다시 읽음)
+ */
+@Component
+public class ContractEventRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractEventRelay.class);
+
+    private final ContractPartyRepository contractPartyRepository;
+    private final ContractResponseCache responseCache;
+    private final ContractAccessCache accessCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectWriter messageWriter;
+    private final TransactionTemplate readTransaction;
+
+    @Value("${events.sse.enabled:true}")
+    private boolean enabled;
+
+    @Value("${events.sse.channel:contract-events}")
+    private String channel;
+
+    public ContractEventRelay(ContractPartyRepository contractPartyRepository,
+                              ContractResponseCache responseCache,
+                              ContractAccessCache accessCache,
+                              StringRedisTemplate redisTemplate,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.contractPartyRepository = contractPartyRepository;
+        this.responseCache = responseCache;
+        this.accessCache = accessCache;
+        this.redisTemplate = redisTemplate;
+        this.messageWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void relay(ContractChangedEvent event) {
+        if (event.getType() == ContractEventType.PARTICIPANT_ADDED || event.getType() == ContractEventType.DELETED) {
+            accessCache.invalidate(event.getContractId());
+        }
+        List<String> recipients;
+        try {
+            // 방금 커밋된 참여자 변경이 복제본에 아직 없을 수 있으므로 프라이머리에서 조회
+            recipients = ReadWriteRoutingDataSource.callOnPrimary(() -> readTransaction.execute(status ->
+                    contractPartyRepository.findPartyUuidsByContractId(event.getContractId())));
+        } catch (Exception e) {
+            logger.warn("Failed to resolve recipients of contract {}: {}", event.getContractId(), e.getMessage());
+            recipients = List.of();
+        }
+        responseCache.invalidate(event.getContractId(), recipients != null ? recipients : List.of());
+
+        if (!enabled || recipients == null || recipients.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = messageWriter.writeValueAsString(new ContractEventMessage(recipients, event));
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            logger.warn("Failed to publish contract event {} for contract {}: {}",
+                    event.getType(), event.getContractId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractEventMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 사용자별 SSE 연결을 관리하고, Redis 채널에서 받은 계약 이벤트를 이 노드에 연결된 수신자에게 보냅니다.
+ *
+ * 이벤트 데이터는 한 줄 JSON 으로 보냅니다. (전역 indent-output 이 켜져 있어 줄바꿈이 섞이면 SSE data 필드가 잘림)
+ * 사용자당 연결 수는 maxConnectionsPerUser 로 제한하고 넘으면 가장 오래된 연결을 닫으며,
+ * 주기적으로 heartbeat 주석을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리합니다.
+ */
+@Service
+public class ContractEventStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractEventStreamService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+    private final Map<String, Deque<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    @Value("${events.sse.timeoutMs:1800000}")
+    private long timeoutMs;
+
+    @Value("${events.sse.maxConnectionsPerUser:5}")
+    private int maxConnectionsPerUser;
+
+    public ContractEventStreamService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public SseEmitter subscribe(String userUuid) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // remove() 가 빈 목록을 맵에서 지우는 것과 겹치지 않도록 추가도 같은 키 잠금(compute) 안에서 수행
+        Deque<SseEmitter> emitters = emittersByUser.compute(userUuid, (key, existing) -> {
+            Deque<SseEmitter> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(emitter);
+            return deque;
+        });
+        emitter.onCompletion(() -> remove(userUuid, emitter));
+        emitter.onTimeout(() -> remove(userUuid, emitter));
+        emitter.onError(e -> remove(userUuid, emitter));
+
+        while (emitters.size() > maxConnectionsPerUser) {
+            SseEmitter oldest = emitters.pollFirst();
+            if (oldest == null) {
+                break;
+            }
+            oldest.complete();
+        }
+
+        try {
+            emitter.send(SseEmitter.event().name("connected").data("{}", MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            remove(userUuid, emitter);
+            emitter.completeWithError(e);
+        }
+        logger.debug("SSE stream opened for user {} ({} connections)", userUuid, emitters.size());
+        return emitter;
+    }
+
+    /**
+     * Redis 채널 메시지 처리 (모든 노드가 받으며, 이 노드에 연결이 없는 수신자는 건너뜀)
+     */
+    public void dispatch(String payload) {
+        ContractEventMessage message;
+        String eventJson;
+        try {
+            message = objectMapper.readValue(payload, ContractEventMessage.class);
+            eventJson = eventWriter.writeValueAsString(message.getEvent());
+        } catch (IOException e) {
+            logger.warn("Ignoring malformed contract event message: {}", e.getMessage());
+            return;
+        }
+        if (message.getEvent() == null || message.getRecipientUuids() == null) {
+            return;
+        }
+
+        ContractChangedEvent event = message.getEvent();
+        for (String recipientUuid : message.getRecipientUuids()) {
+            Deque<SseEmitter> emitters = emittersByUser.get(recipientUuid);
+            if (emitters == null) {
+                continue;
+            }
+            for (SseEmitter emitter : emitters) {
+                send(recipientUuid, emitter, SseEmitter.event()
+                        .name(event.getType().name())
+                        .data(eventJson, MediaType.APPLICATION_JSON));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.sse.heartbeatIntervalMs:25000}")
+    public void heartbeat() {
+        emittersByUser.forEach((userUuid, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                send(userUuid, emitter, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    private void send(String userUuid, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊은 연결
+            remove(userUuid, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String userUuid, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userUuid, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,165 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.datasource.ReadWriteRoutingDataSource;
+import com.contract.backend.common.dto.ContractDetailDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 계약 상세/목록 응답의 노드 로컬 캐시 (Caffeine).
+ *
+ * 캐시 키에 Redis 에 있는 버전 스탬프(계약별, 사용자별)를 포함하고, 조회할 때마다 현재 스탬프를 읽어 키를 만듭니다.
+ * 계약이 바뀌면 커밋 후 스탬프를 올리므로(ContractEventRelay) 어느 노드에서든 다음 조회는 새 키로 다시 읽고,
+ * 이전 스탬프의 항목은 더 이상 조회되지 않다가 크기/TTL 로 정리됩니다.
+ * 스탬프는 조회 전에 읽으므로, 로딩 중에 커밋된 변경은 올라간 스탬프 때문에 다음 조회에서 반영됩니다.
+ * Redis 를 읽을 수 없으면 스탬프를 확인할 수 없으므로 캐시를 쓰지 않고 바로 조회합니다.
+ * 캐시를 채우는 조회는 프라이머리에서 실행합니다. 복제본이 스탬프 증가 직후의 변경을 아직 반영하지 못했다면
+ * 이전 내용이 새 스탬프로 캐시되어 다음 변경이나 TTL 까지 모든 노드에서 보이기 때문입니다.
+ */
+@Service
+public class ContractResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContractResponseCache.class);
+    private static final String CONTRACT_STAMP_PREFIX = "stamp:contract:";
+    private static final String USER_STAMP_PREFIX = "stamp:user:";
+
+    // 키가 없으면(최초 또는 Redis 초기화) 현재 시각 기반 값으로 시작하여 이전 스탬프 값과 겹치지 않게 함
+    private static final RedisScript<Long> READ_STAMP = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if v then return tonumber(v) end " +
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return tonumber(ARGV[1])", Long.class);
+    private static final RedisScript<Long> BUMP_STAMP = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCR', KEYS[1]) end " +
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return tonumber(ARGV[1])", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private Cache<String, CachedDetail> detailCache;
+    private Cache<String, Object> listCache;
+
+    @Value("${contract.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${contract.cache.detailMaxSize:10000}")
+    private long detailMaxSize;
+
+    @Value("${contract.cache.listMaxSize:20000}")
+    private long listMaxSize;
+
+    // Redis 장애로 스탬프 증가를 놓친 경우에도 오래된 응답이 남는 시간의 상한
+    @Value("${contract.cache.ttlSeconds:600}")
+    private long ttlSeconds;
+
+    public ContractResponseCache(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        detailCache = Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        listCache = Caffeine.newBuilder()
+                .maximumSize(listMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "contractDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, listCache, "contractList");
+    }
+
+    /**
+     * 계약 상세. 권한 검사는 호출 측에서 CachedDetail.isMember 로 수행합니다. (캐시 항목은 요청자와 무관)
+     */
+    public CachedDetail getDetail(Long contractId, Supplier<CachedDetail> loader) {
+        Long stamp = readStamp(CONTRACT_STAMP_PREFIX + contractId);
+        if (stamp == null) {
+            return loader.get();
+        }
+        return detailCache.get(contractId + ":" + stamp, key -> ReadWriteRoutingDataSource.callOnPrimary(loader));
+    }
+
+    /**
+     * 사용자별 목록 페이지. key 는 페이지를 구분하는 요청 파라미터입니다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getList(String userUuid, String key, Supplier<T> loader) {
+        Long stamp = readStamp(USER_STAMP_PREFIX + userUuid);
+        if (stamp == null) {
+            return loader.get();
+        }
+        return (T) listCache.get(userUuid + ":" + stamp + ":" + key, k -> ReadWriteRoutingDataSource.callOnPrimary(loader));
+    }
+
+    /**
+     * 커밋된 변경 반영: 계약 스탬프와 참여자들의 목록 스탬프를 올립니다.
+     */
+    public void invalidate(Long contractId, Collection<String> memberUuids) {
+        if (!enabled) {
+            return;
+        }
+        String initial = initialStamp();
+        try {
+            redisTemplate.execute(BUMP_STAMP, List.of(CONTRACT_STAMP_PREFIX + contractId), initial);
+            for (String memberUuid : memberUuids) {
+                redisTemplate.execute(BUMP_STAMP, List.of(USER_STAMP_PREFIX + memberUuid), initial);
+            }
+        } catch (Exception e) {
+            // 다른 노드는 TTL 이 지날 때까지 이전 응답을 줄 수 있음 (이 노드의 항목은 바로 제거)
+            logger.error("Failed to bump cache stamps for contract {}: {}", contractId, e.getMessage());
+            detailCache.invalidateAll();
+            listCache.invalidateAll();
+        }
+    }
+
+    private Long readStamp(String key) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return redisTemplate.execute(READ_STAMP, List.of(key), initialStamp());
+        } catch (Exception e) {
+            logger.warn("Cache stamp unavailable, bypassing response cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String initialStamp() {
+        return String.valueOf(System.currentTimeMillis() * 1000);
+    }
+
+    public static class CachedDetail {
+        private final ContractDetailDTO detail;
+        private final Set<String> memberUuids;
+
+        public CachedDetail(ContractDetailDTO detail, Set<String> memberUuids) {
+            this.detail = detail;
+            this.memberUuids = memberUuids;
+        }
+
+        public ContractDetailDTO getDetail() { return detail; }
+
+        public boolean isMember(String userUuid) { return memberUuids.contains(userUuid); }
+    }
+}
@@ -5,25 +5,31 @@ import com.contract.backend.common.Entity.enumm.ContractStatus;
 import com.contract.backend.common.Entity.enumm.PartyRole;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
 import com.contract.backend.common.dto.*;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractEventType;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
 import com.contract.backend.common.repository.*;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.contract.backend.common.util.ledger.BlockchainMetadataCodec;
+import com.contract.backend.common.util.ledger.IntegrityProofSigner;
+import com.contract.backend.common.util.ledger.IntegrityProofVerifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -40,7 +46,16 @@ public class ContractService {
     private final SignatureRepository signatureRepository;
     private final BlockchainRecordRepository blockchainRecordRepository;
     private final BlockchainService blockchainService;
-    private final ObjectMapper objectMapper;
+    private final BlockchainMetadataCodec metadataCodec;
+    private final IntegrityProofVerifier proofVerifier;
+    private final IntegrityProofSigner proofSigner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserContractIndexService userContractIndexService;
+    private final ContractResponseCache responseCache;
+    private final ContractAccessCache accessCache;
+
+    @Value("${contract.list.maxPageSize:100}")
+    private int maxListPageSize;
 
 
     public ContractService(
@@ -52,7 +67,13 @@ public class ContractService {
             SignatureRepository signatureRepository,
             BlockchainRecordRepository blockchainRecordRepository,
             @Qualifier("blockchainService") BlockchainService blockchainService,
-            ObjectMapper objectMapper) {
+            BlockchainMetadataCodec metadataCodec,
+            IntegrityProofVerifier proofVerifier,
+            IntegrityProofSigner proofSigner,
+            ApplicationEventPublisher eventPublisher,
+            UserContractIndexService userContractIndexService,
+            ContractResponseCache responseCache,
+            ContractAccessCache accessCache) {
         this.contractRepository = contractRepository;
         this.contractVersionRepository = contractVersionRepository;
         this.contractPartyRepository = contractPartyRepository;
@@ -61,7 +82,13 @@ public class ContractService {
         this.signatureRepository = signatureRepository;
         this.blockchainRecordRepository = blockchainRecordRepository;
         this.blockchainService = blockchainService;
-        this.objectMapper = objectMapper;
+        this.metadataCodec = metadataCodec;
+        this.proofVerifier = proofVerifier;
+        this.proofSigner = proofSigner;
+        this.eventPublisher = eventPublisher;
+        this.userContractIndexService = userContractIndexService;
+        this.responseCache = responseCache;
+        this.accessCache = accessCache;
     }
 
     @Transactional
@@ -96,17 +123,28 @@ public class ContractService {
         contract.setCurrentVersion(version);
         contractRepository.save(contract);
 
-        contractPartyRepository.save(new ContractPartyEntity(contract, uploader, PartyRole.INITIATOR));
-
-        if (request.getParticipantIds() != null) {
-            for (UUID uuid : request.getParticipantIds()) {
-                UserEntity participant = userRepository.findByUuid(uuid.toString())
-                        .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+        List<ContractPartyEntity> parties = new ArrayList<>();
+        parties.add(new ContractPartyEntity(contract, uploader, PartyRole.INITIATOR));
+
+        // 참여자는 IN 조회 한 번으로 확인하고, 참여자/인덱스 행은 JDBC 배치로 저장 (ID 는 풀링 테이블 생성기)
+        if (request.getParticipantIds() != null && !request.getParticipantIds().isEmpty()) {
+            Set<String> participantUuids = request.getParticipantIds().stream()
+                    .map(UUID::toString)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            List<UserEntity> participants = userRepository.findAllByUuidIn(participantUuids);
+            if (participants.size() != participantUuids.size()) {
+                throw new CustomException(CustomExceptionEnum.USER_NOT_FOUND);
+            }
+            for (UserEntity participant : participants) {
                 if (!participant.getId().equals(uploader.getId())) {
-                    contractPartyRepository.save(new ContractPartyEntity(contract, participant, PartyRole.COUNTERPARTY));
+                    parties.add(new ContractPartyEntity(contract, participant, PartyRole.COUNTERPARTY));
                 }
             }
         }
+        contractPartyRepository.saveAll(parties);
+        version.setRequiredSignerCount(parties.size());
+        userContractIndexService.addParties(contract, parties);
+        publishEvent(ContractEventType.VERSION_CREATED, contract, uploader);
         return contract;
     }
 
@@ -150,6 +188,7 @@ public class ContractService {
         );
         newVersion.setBucketName(bucket);
         newVersion.setStorageProvider("B2");
+        newVersion.setRequiredSignerCount((int) contractPartyRepository.countRequiredSigners(contract));
         contractVersionRepository.save(newVersion);
 
         contract.setCurrentVersion(newVersion);
@@ -162,10 +201,23 @@ public class ContractService {
         contract.setUpdatedAt(LocalDateTime.now());
         contract.setUpdatedBy(updater);
         contractRepository.save(contract);
+        userContractIndexService.onVersionCreated(contract.getId());
 
+        publishEvent(ContractEventType.VERSION_CREATED, contract, updater);
         return contract;
     }
 
+    // 참여자 알림은 커밋 후 전달 (ContractEventRelay)
+    private void publishEvent(ContractEventType type, ContractEntity contract, UserEntity actor) {
+        ContractVersionEntity currentVersion = contract.getCurrentVersion();
+        eventPublisher.publishEvent(new ContractChangedEvent(
+                type,
+                contract.getId(),
+                currentVersion != null ? currentVersion.getVersionNumber() : null,
+                contract.getStatus(),
+                actor.getUuid()));
+    }
+
 
     private String generateSHA256FromFile(byte[] data) throws NoSuchAlgorithmException {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -213,72 +265,172 @@ public class ContractService {
         contract.setUpdatedBy(actionRequester);
         contractRepository.save(contract);
 
-        return contractPartyRepository.save(newContractParty);
+        ContractPartyEntity savedParty = contractPartyRepository.save(newContractParty);
+        // 서명 대기 중인 현재 버전의 필수 서명자 수에 반영
+        if (contract.getCurrentVersion() != null) {
+            contractVersionRepository.incrementRequiredSigners(contract.getCurrentVersion().getId());
+        }
+        userContractIndexService.addParties(contract, List.of(savedParty));
+        publishEvent(ContractEventType.PARTICIPANT_ADDED, contract, actionRequester);
+        return savedParty;
     }
 
     @Transactional(readOnly = true)
     public ContractIntegrityVerificationDTO verifyContractIntegrity(Long contractId, int versionNumber, UserEntity requester) {
-        ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
-            .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
-
-        boolean isCreator = contract.getCreatedBy().getId().equals(requester.getId());
-        boolean isParty = contractPartyRepository.findByContractAndParty(contract, requester).isPresent();
-        if (!isCreator && !isParty) {
-            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
-        }
+        ContractEntity contract = findAccessibleContract(contractId, requester);
 
         ContractVersionEntity version = contractVersionRepository.findByContractAndVersionNumber(contract, versionNumber)
                 .orElseThrow(() -> new CustomException(CustomExceptionEnum.VERSION_NOT_FOUND));
 
-        ContractIntegrityVerificationDTO verificationResult = new ContractIntegrityVerificationDTO(version.getId());
-
         Optional<BlockchainRecordEntity> blockchainRecordOpt = blockchainRecordRepository.findByContractVersion(version);
         if (blockchainRecordOpt.isEmpty()) {
-            verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
-            verificationResult.getDbVerification().setDetails("해당 계약 버전에 대한 블록체인 기록 정보를 DB에서 찾을 수 없습니다.");
-            verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.NOT_CHECKED);
-            verificationResult.getBlockchainVerification().setDetails("DB에 블록체인 기록이 없어 비교를 수행할 수 없습니다.");
-            verificationResult.setMessage("블록체인 기록이 DB에 존재하지 않아 전체 검증을 진행할 수 없습니다.");
-            verificationResult.setOverallSuccess(false);
-            return verificationResult;
+            return recordNotFoundResult(version.getId());
         }
-        BlockchainRecordEntity dbBlockchainRecord = blockchainRecordOpt.get();
 
-        BlockchainMetadataDTO metadataFromChain = null;
-        // --- 1단계: DB 기록 무결성 검증 (DB의 metadataHash와 실제 체인 데이터 해시 비교) ---
+        byte[] metadataBytesFromChain = null;
+        Exception ledgerError = null;
         try {
-            metadataFromChain = blockchainService.getContractMetadataFromBlockchain(version.getId());
+            metadataBytesFromChain = blockchainService.getContractMetadataBytesFromBlockchain(version.getId());
+        } catch (Exception e) {
+            ledgerError = e;
+        }
+        List<SignatureEntity> signatures = metadataBytesFromChain != null
+                ? signatureRepository.findAllByContractVersion(version)
+                : Collections.emptyList();
+        return evaluateIntegrity(contract, version, blockchainRecordOpt.get(), signatures, metadataBytesFromChain, ledgerError);
+    }
 
-            if (metadataFromChain == null) {
-                verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
-                verificationResult.getDbVerification().setDetails("블록체인에서 해당 계약 버전의 메타데이터를 찾을 수 없습니다 (TxID: " + dbBlockchainRecord.getTxHash() + "). DB의 metadataHash 검증 불가.");
-                // 블록체인 데이터가 없으면 2단계 비교도 불가
-                verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
-                verificationResult.getBlockchainVerification().setDetails("블록체인에서 메타데이터를 찾을 수 없어 DB와 비교할 수 없습니다.");
+    /**
+     * 계약 버전의 무결성 증명 번들을 만듭니다. 원장 조회는 번들 생성 시 한 번만 수행하며,
+     * 원장 바이트의 해시가 DB 기록과 다르면 번들을 만들지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public IntegrityProofBundleDTO exportIntegrityProof(Long contractId, int versionNumber, UserEntity requester) throws Exception {
+        ContractEntity contract = findAccessibleContract(contractId, requester);
 
-            } else {
-                String jsonFromChain = objectMapper.writeValueAsString(metadataFromChain);
-                String hashOfChainData = generateSHA256ForString(jsonFromChain.getBytes(StandardCharsets.UTF_8));
+        ContractVersionEntity version = contractVersionRepository.findByContractAndVersionNumber(contract, versionNumber)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.VERSION_NOT_FOUND));
+        BlockchainRecordEntity record = blockchainRecordRepository.findByContractVersion(version)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.BLOCKCHAIN_RECORD_NOT_FOUND));
 
-                if (hashOfChainData.equals(dbBlockchainRecord.getMetadataHash())) {
-                    verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.SUCCESS);
-                    verificationResult.getDbVerification().setDetails("DB에 기록된 메타데이터 해시가 실제 블록체인 데이터의 해시와 일치합니다.");
-                } else {
-                    verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.FAILED);
-                    verificationResult.getDbVerification().setDetails("DB에 기록된 메타데이터 해시가 실제 블록체인 데이터의 해시와 다릅니다.");
-                    verificationResult.getDbVerification().addDiscrepancy("DB 기록된 메타데이터 해시: " + dbBlockchainRecord.getMetadataHash());
-                    verificationResult.getDbVerification().addDiscrepancy("블록체인 데이터 재구성 해시: " + hashOfChainData);
-                }
-            }
-        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
-            logger.error("Error during DB record integrity verification (hashing chain data) for versionId {}: {}", version.getId(), e.getMessage());
-            verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.ERROR);
-            verificationResult.getDbVerification().setDetails("DB 기록 무결성 검증 중 오류 발생 (블록체인 데이터 해싱): " + e.getMessage());
-        } catch (Exception e) { // BlockchainService.getContractMetadataFromBlockchain() 예외
-            logger.error("Error fetching metadata from blockchain for DB verification, versionId {}: {}", version.getId(), e.getMessage());
+        byte[] metadataBytesFromChain = blockchainService.getContractMetadataBytesFromBlockchain(version.getId());
+        if (metadataBytesFromChain == null || !metadataCodec.hash(metadataBytesFromChain).equals(record.getMetadataHash())) {
+            logger.warn("Integrity proof export refused for versionId {}: ledger data missing or hash mismatch", version.getId());
+            throw new CustomException(CustomExceptionEnum.INTEGRITY_PROOF_UNAVAILABLE);
+        }
+
+        IntegrityProofBundleDTO bundle = new IntegrityProofBundleDTO();
+        bundle.setFormatVersion(IntegrityProofBundleDTO.FORMAT_VERSION);
+        bundle.setHashAlgorithm(IntegrityProofBundleDTO.HASH_ALGORITHM);
+        bundle.setContractId(contract.getId());
+        bundle.setVersionNumber(version.getVersionNumber());
+        bundle.setContractVersionId(version.getId());
+        bundle.setFileHash(version.getFileHash());
+        bundle.setCanonicalMetadata(metadataBytesFromChain);
+        bundle.setMetadataHash(record.getMetadataHash());
+        bundle.setMetadata(metadataCodec.decode(metadataBytesFromChain));
+        bundle.setTxId(record.getTxHash());
+        bundle.setBlockNumber(record.getBlockNumber());
+        bundle.setAnchorStatus(record.getAnchorStatus());
+        bundle.setAnchoredAt(record.getRecordedAt());
+        bundle.setConfirmedAt(record.getConfirmedAt());
+        bundle.setExportedAt(LocalDateTime.now());
+        proofSigner.sign(bundle);
+        return bundle;
+    }
+
+    public ProofSigningKeyDTO getProofSigningKey() {
+        return new ProofSigningKeyDTO(IntegrityProofSigner.SIGNATURE_ALGORITHM, proofSigner.getKeyId(),
+                Base64.getEncoder().encodeToString(proofSigner.getPublicKey().getEncoded()));
+    }
+
+    /**
+     * 읽기 전용 조회의 계약 접근 권한 확인.
+     * 권한 캐시를 첫 조회보다 먼저 확인해야 캐시 적재가 이 트랜잭션의 커넥션(복제본일 수 있음)에 묶이지 않습니다.
+     */
+    private ContractEntity findAccessibleContract(Long contractId, UserEntity requester) {
+        boolean member = accessCache.isMember(contractId, requester.getId());
+        ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND));
+        if (!member) {
+            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+        }
+        return contract;
+    }
+
+    // 증명 번들 검증 (DB/원장 조회 없음)
+    public ProofVerificationResultDTO verifyIntegrityProof(IntegrityProofBundleDTO bundle, MultipartFile file) throws IOException {
+        return proofVerifier.verify(bundle, file != null && !file.isEmpty() ? file.getBytes() : null);
+    }
+
+    // DB에 블록체인 기록이 없어 검증을 진행할 수 없는 경우의 결과
+    public ContractIntegrityVerificationDTO recordNotFoundResult(Long contractVersionId) {
+        ContractIntegrityVerificationDTO verificationResult = new ContractIntegrityVerificationDTO(contractVersionId);
+        verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
+        verificationResult.getDbVerification().setDetails("해당 계약 버전에 대한 블록체인 기록 정보를 DB에서 찾을 수 없습니다.");
+        verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.NOT_CHECKED);
+        verificationResult.getBlockchainVerification().setDetails("DB에 블록체인 기록이 없어 비교를 수행할 수 없습니다.");
+        verificationResult.setMessage("블록체인 기록이 DB에 존재하지 않아 전체 검증을 진행할 수 없습니다.");
+        verificationResult.setOverallSuccess(false);
+        return verificationResult;
+    }
+
+    /**
+     * 이미 조회된 DB 데이터와 원장 조회 결과로 무결성 검증 결과를 구성합니다. (DB/원장 호출 없음)
+     * 단건 검증과 일괄 검증(ContractBulkVerificationService)이 같은 비교 로직을 사용합니다.
+     *
+     * @param contract          createdBy 가 초기화된 계약
+     * @param signatures        signer 가 초기화된 해당 버전의 서명 목록 (원장 조회 실패 시 비어 있어도 됨)
+     * @param metadataBytesFromChain 원장에 기록된 메타데이터 바이트 (없으면 null)
+     * @param ledgerError       원장 조회 중 발생한 예외 (없으면 null)
+     */
+    public ContractIntegrityVerificationDTO evaluateIntegrity(
+            ContractEntity contract,
+            ContractVersionEntity version,
+            BlockchainRecordEntity dbBlockchainRecord,
+            List<SignatureEntity> signatures,
+            byte[] metadataBytesFromChain,
+            Exception ledgerError
+    ) {
+        ContractIntegrityVerificationDTO verificationResult = new ContractIntegrityVerificationDTO(version.getId());
+        verificationResult.setAnchorStatus(dbBlockchainRecord.getAnchorStatus());
+        verificationResult.setAnchorBlockNumber(dbBlockchainRecord.getBlockNumber());
+
+        BlockchainMetadataDTO metadataFromChain = null;
+        // --- 1단계: DB 기록 무결성 검증 (DB의 metadataHash와 원장에 저장된 바이트의 해시 비교) ---
+        if (ledgerError != null) { // BlockchainService.getContractMetadataBytesFromBlockchain() 예외
+            logger.error("Error fetching metadata from blockchain for DB verification, versionId {}: {}", version.getId(), ledgerError.getMessage());
             verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.ERROR);
-            verificationResult.getDbVerification().setDetails("DB 기록 무결성 검증 중 블록체인 데이터 조회 오류: " + e.getMessage());
+            verificationResult.getDbVerification().setDetails("DB 기록 무결성 검증 중 블록체인 데이터 조회 오류: " + ledgerError.getMessage());
             verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.NOT_CHECKED); // 조회 실패 시 2단계도 불가
+        } else if (metadataBytesFromChain == null) {
+            verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
+            verificationResult.getDbVerification().setDetails("블록체인에서 해당 계약 버전의 메타데이터를 찾을 수 없습니다 (TxID: " + dbBlockchainRecord.getTxHash() + "). DB의 metadataHash 검증 불가.");
+            // 블록체인 데이터가 없으면 2단계 비교도 불가
+            verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND);
+            verificationResult.getBlockchainVerification().setDetails("블록체인에서 메타데이터를 찾을 수 없어 DB와 비교할 수 없습니다.");
+        } else {
+            // 원장에 저장된 바이트를 그대로 해싱 (앵커링 시 같은 바이트의 해시를 DB에 기록함)
+            String hashOfChainData = metadataCodec.hash(metadataBytesFromChain);
+            if (hashOfChainData.equals(dbBlockchainRecord.getMetadataHash())) {
+                verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.SUCCESS);
+                verificationResult.getDbVerification().setDetails("DB에 기록된 메타데이터 해시가 실제 블록체인 데이터의 해시와 일치합니다.");
+            } else {
+                verificationResult.getDbVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.FAILED);
+                verificationResult.getDbVerification().setDetails("DB에 기록된 메타데이터 해시가 실제 블록체인 데이터의 해시와 다릅니다.");
+                verificationResult.getDbVerification().addDiscrepancy("DB 기록된 메타데이터 해시: " + dbBlockchainRecord.getMetadataHash());
+                verificationResult.getDbVerification().addDiscrepancy("블록체인 데이터 해시: " + hashOfChainData);
+            }
+
+            // 2단계 필드 비교용으로만 해석
+            try {
+                metadataFromChain = metadataCodec.decode(metadataBytesFromChain);
+            } catch (IOException e) {
+                logger.error("Error decoding blockchain metadata for versionId {}: {}", version.getId(), e.getMessage());
+                verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.ERROR);
+                verificationResult.getBlockchainVerification().setDetails("블록체인 메타데이터 해석 중 오류 발생: " + e.getMessage());
+                verificationResult.setMessage("계약 무결성 검증 실패: 블록체인 메타데이터를 해석할 수 없습니다.");
+            }
         }
 
 
@@ -287,8 +439,7 @@ public class ContractService {
         if (metadataFromChain != null) {
             try {
                 // 현재 DB 상태에서 DTO 재구성
-                List<SignatureEntity> currentSignaturesFromDb = signatureRepository.findAllByContractVersion(version);
-                List<BlockchainMetadataDTO.SignatureMetadataDTO> currentSignatureDtos = currentSignaturesFromDb.stream()
+                List<BlockchainMetadataDTO.SignatureMetadataDTO> currentSignatureDtos = signatures.stream()
                         .map(sig -> new BlockchainMetadataDTO.SignatureMetadataDTO(
                                 sig.getSigner().getUuid(),
                                 sig.getSignatureHash(),
@@ -395,7 +546,8 @@ public class ContractService {
                 verificationResult.getBlockchainVerification().setDetails("블록체인 vs DB 데이터 비교 중 오류 발생: " + e.getMessage());
             }
         } else if (verificationResult.getDbVerification().getStatus() != ContractIntegrityVerificationDTO.VerificationStatus.ERROR &&
-                verificationResult.getDbVerification().getStatus() != ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND) {
+                verificationResult.getDbVerification().getStatus() != ContractIntegrityVerificationDTO.VerificationStatus.DATA_NOT_FOUND &&
+                verificationResult.getBlockchainVerification().getStatus() != ContractIntegrityVerificationDTO.VerificationStatus.ERROR) {
             // metadataFromChain이 null이지만, dbVerification 단계에서 ERROR나 DATA_NOT_FOUND가 아니었다면 (이런 경우는 거의 없지만 방어적으로)
             verificationResult.getBlockchainVerification().setStatus(ContractIntegrityVerificationDTO.VerificationStatus.NOT_CHECKED);
             verificationResult.getBlockchainVerification().setDetails("블록체인 데이터 조회에 실패하여 DB와 비교할 수 없습니다.");
@@ -407,9 +559,7 @@ public class ContractService {
         boolean dbCheckOk = verificationResult.getDbVerification().getStatus() == ContractIntegrityVerificationDTO.VerificationStatus.SUCCESS;
         boolean bcCompareOk = verificationResult.getBlockchainVerification().getStatus() == ContractIntegrityVerificationDTO.VerificationStatus.SUCCESS;
 
-        // 블록체인 기록이 아예 없는 경우는 dbCheckOk, bcCompareOk 모두 false가 될 수 있음 (DATA_NOT_FOUND 상태)
-        // 이 경우 overallSuccess는 false.
-        if (blockchainRecordOpt.isEmpty() || metadataFromChain == null) { // 블록체인 기록 자체가 없거나 조회가 안된 경우
+        if (metadataFromChain == null) { // 블록체인에서 조회가 안된 경우
             verificationResult.setOverallSuccess(false);
             if (verificationResult.getMessage() == null || verificationResult.getMessage().isEmpty()){
                 verificationResult.setMessage("계약 무결성 검증 실패: 블록체인에서 데이터를 찾을 수 없습니다.");
@@ -430,52 +580,100 @@ public class ContractService {
         return verificationResult;
     }
 
-    private String generateSHA256ForString(byte[] data) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(data);
-        StringBuilder sb = new StringBuilder();
-        for (byte b : hash) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
-    }
     @Transactional(readOnly = true) // 읽기 전용 트랜잭션
     public Page<ContractListDTO> getContractsForUser(String userUuid, Pageable pageable) {
+        return responseCache.getList(userUuid, "page:" + pageable, () -> {
+            UserEntity user = userRepository.findByUuid(userUuid)
+                    .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+
+            // DTO 프로젝션으로 조회하므로 행마다 현재 버전을 지연 로딩하지 않음 (목록 + COUNT 두 쿼리)
+            return contractRepository.findContractListByCreatorOrParticipant(user, pageable);
+        });
+    }
+
+    // 첫 페이지 커서 (모든 created_at 보다 큰 값)
+    private static final LocalDateTime FIRST_PAGE_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * 내 계약 목록 키셋 페이지 (created_at DESC, id DESC). 전체 건수를 세지 않으므로 깊은 페이지도 첫 페이지와 같은 비용입니다.
+     * user_contract_index 의 사용자별 인덱스 범위 스캔으로 조회합니다.
+     *
+     * @param cursor       이전 응답의 nextCursor (첫 페이지는 null)
+     * @param status       계약 상태 필터 (null 이면 전체)
+     * @param awaitingOnly true 면 내 서명이 필요한 계약만
+     */
+    @Transactional(readOnly = true)
+    public ContractCursorPageDTO getContractsForUserAfter(String userUuid, String cursor, int size,
+                                                          ContractStatus status, boolean awaitingOnly) {
+        String cacheKey = "scroll:" + cursor + ":" + size + ":" + status + ":" + awaitingOnly;
+        return responseCache.getList(userUuid, cacheKey, () -> loadContractsForUserAfter(userUuid, cursor, size, status, awaitingOnly));
+    }
+
+    private ContractCursorPageDTO loadContractsForUserAfter(String userUuid, String cursor, int size,
+                                                            ContractStatus status, boolean awaitingOnly) {
         UserEntity user = userRepository.findByUuid(userUuid)
                 .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+        int pageSize = Math.max(1, Math.min(size, maxListPageSize));
+
+        LocalDateTime cursorCreatedAt = FIRST_PAGE_CREATED_AT;
+        Long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = decodeCursor(cursor);
+            cursorCreatedAt = LocalDateTime.parse(position[0]);
+            cursorId = Long.parseLong(position[1]);
+        }
 
-        Page<ContractEntity> contractPage = contractRepository.findContractsByCreatorOrParticipant(user, pageable);
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<ContractListDTO> rows = userContractIndexService.findPageAfter(
+                user.getId(), status, awaitingOnly, cursorCreatedAt, cursorId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<ContractListDTO> contracts = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
 
-        return contractPage.map(contract -> {
-            Integer currentVersionNumber = null;
-            if (contract.getCurrentVersion() != null) {
-                currentVersionNumber = contract.getCurrentVersion().getVersionNumber();
+        String nextCursor = null;
+        if (hasNext) {
+            ContractListDTO last = contracts.get(contracts.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+        return new ContractCursorPageDTO(contracts, nextCursor);
+    }
+
+    // 커서: "createdAt|id" 의 URL-safe Base64 (클라이언트에는 불투명한 값)
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String position = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new CustomException(CustomExceptionEnum.INVALID_CURSOR);
             }
-            // ContractListDTO 생성자를 사용하여 변환
-            return new ContractListDTO(
-                    contract.getId(),
-                    contract.getTitle(),
-                    contract.getStatus(),
-                    contract.getCreatedAt(),
-                    currentVersionNumber
-                    // 만약 DTO에 createdByUsername 등이 있다면 여기서 설정
-                    // contract.getCreatedBy() != null ? contract.getCreatedBy().getUserName() : null
-            );
-        });
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(CustomExceptionEnum.INVALID_CURSOR);
+        }
     }
 
     @Transactional(readOnly = true)
-public ContractDetailDTO getContractDetails(Long contractId, String requesterUuid) {
+    public ContractDetailDTO getContractDetails(Long contractId, String requesterUuid) {
+        // 상세 DTO 는 요청자와 무관하므로 계약 버전 스탬프 단위로 캐시하고, 권한은 캐시된 참여자 목록으로 매번 확인
+        ContractResponseCache.CachedDetail cached = responseCache.getDetail(contractId, () -> loadContractDetails(contractId));
+        if (!cached.isMember(requesterUuid)) {
+            logger.error("권한 없음 - contractId: {}, requesterUuid: {}", contractId, requesterUuid);
+            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+        }
+        return cached.getDetail();
+    }
+
+private ContractResponseCache.CachedDetail loadContractDetails(Long contractId) {
     try {
-        logger.info("계약서 상세 조회 시작 - contractId: {}, requesterUuid: {}", contractId, requesterUuid);
-        
-        UserEntity requester = userRepository.findByUuid(requesterUuid)
-                .orElseThrow(() -> {
-                    logger.error("사용자를 찾을 수 없음: {}", requesterUuid);
-                    return new CustomException(CustomExceptionEnum.USER_NOT_FOUND);
-                });
+        logger.info("계약서 상세 조회 시작 - contractId: {}", contractId);
 
-        ContractEntity contract = contractRepository.findByIdAndNotDeleted(contractId)
+        // 이력 길이와 무관하게 쿼리 4번으로 조회: 계약(작성자/수정자/현재 버전) → 참여자(사용자) → 버전 → 서명(서명자)
+        ContractEntity contract = contractRepository.findDetailByIdAndNotDeleted(contractId)
                 .orElseThrow(() -> {
                     logger.error("계약서를 찾을 수 없음 또는 삭제된 계약서: {}", contractId);
                     return new CustomException(CustomExceptionEnum.CONTRACT_NOT_FOUND);
@@ -483,16 +681,11 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         logger.info("계약서 조회 성공 - 제목: {}, 상태: {}", contract.getTitle(), contract.getStatus());
 
-        // 권한 검사: 요청자가 해당 계약의 생성자이거나 참여자인지 확인
-        boolean isCreator = contract.getCreatedBy().getUuid().equals(requesterUuid);
-        boolean isParticipant = contractPartyRepository.findByContractAndParty(contract, requester).isPresent();
-
-        if (!isCreator && !isParticipant) {
-            logger.error("권한 없음 - contractId: {}, requesterUuid: {}", contractId, requesterUuid);
-            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
-        }
-
-        logger.info("권한 확인 완료 - isCreator: {}, isParticipant: {}", isCreator, isParticipant);
+        // 조회 권한이 있는 사용자: 생성자와 참여자 (참여자 목록은 응답에도 쓰이므로 한 번만 조회)
+        List<ContractPartyEntity> parties = contractPartyRepository.findAllWithPartyByContract(contract);
+        Set<String> memberUuids = new HashSet<>();
+        memberUuids.add(contract.getCreatedBy().getUuid());
+        parties.forEach(party -> memberUuids.add(party.getParty().getUuid()));
 
         ContractDetailDTO detailDTO = new ContractDetailDTO();
         detailDTO.setId(contract.getId());
@@ -534,7 +727,6 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         // 참여자 정보 매핑
         try {
-            List<ContractPartyEntity> parties = contractPartyRepository.findByContract(contract);
             logger.debug("참여자 수: {}", parties.size());
             
             List<ParticipantDetailDTO> participantDTOs = parties.stream()
@@ -562,16 +754,19 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 
         // 모든 버전 이력 정보 매핑
         try {
-            List<ContractVersionEntity> allVersions = contractVersionRepository.findByContract(contract);
+            List<ContractVersionEntity> allVersions = contractVersionRepository.findByContractOrderByVersionNumberAsc(contract);
             logger.debug("버전 수: {}", allVersions.size());
-            
-            // versionNumber를 기준으로 정렬
-            allVersions.sort(Comparator.comparingInt(ContractVersionEntity::getVersionNumber));
+
+            // 모든 버전의 서명을 한 번에 읽어 버전 ID 별로 분류 (서명 시각 순서 유지)
+            Map<Long, List<SignatureEntity>> signaturesByVersionId = signatureRepository.findAllWithSignerByContract(contract)
+                    .stream()
+                    .collect(Collectors.groupingBy(sig -> sig.getContractVersion().getId(), LinkedHashMap::new, Collectors.toList()));
 
             List<ContractVersionDetailDTO> versionHistoryDTOs = allVersions.stream()
                     .map(version -> {
                         try {
-                            return mapContractVersionToDetailDTO(version);
+                            return mapContractVersionToDetailDTO(version,
+                                    signaturesByVersionId.getOrDefault(version.getId(), Collections.emptyList()));
                         } catch (Exception e) {
                             logger.error("버전 정보 매핑 중 오류 - versionId: {}, error: {}", 
                                 version.getId(), e.getMessage());
@@ -586,10 +781,15 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
             throw new RuntimeException("버전 이력 처리 중 오류 발생", e);
         }
 
-        // 현재 버전 정보 매핑
+        // 현재 버전 정보 매핑 (이력에서 이미 매핑한 DTO 재사용)
         try {
-            if (contract.getCurrentVersion() != null) {
-                detailDTO.setCurrentVersion(mapContractVersionToDetailDTO(contract.getCurrentVersion()));
+            ContractVersionEntity currentVersion = contract.getCurrentVersion();
+            ContractVersionDetailDTO currentVersionDTO = currentVersion == null ? null : detailDTO.getVersionHistory().stream()
+                    .filter(version -> version.getId().equals(currentVersion.getId()))
+                    .findFirst()
+                    .orElse(null);
+            if (currentVersionDTO != null) {
+                detailDTO.setCurrentVersion(currentVersionDTO);
                 logger.debug("현재 버전 정보 설정 완료");
             } else if (!detailDTO.getVersionHistory().isEmpty()) {
                 detailDTO.setCurrentVersion(detailDTO.getVersionHistory().get(detailDTO.getVersionHistory().size() - 1));
@@ -601,7 +801,7 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
         }
 
         logger.info("계약서 상세 조회 완료 - contractId: {}", contractId);
-        return detailDTO;
+        return new ContractResponseCache.CachedDetail(detailDTO, memberUuids);
         
     } catch (CustomException e) {
         logger.error("CustomException 발생 - contractId: {}, error: {}", contractId, e.getMessage());
@@ -613,7 +813,8 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
 }
 
     // ContractVersionEntity를 ContractVersionDetailDTO로 변환하는 헬퍼 메소드
-    private ContractVersionDetailDTO mapContractVersionToDetailDTO(ContractVersionEntity versionEntity) {
+    private ContractVersionDetailDTO mapContractVersionToDetailDTO(ContractVersionEntity versionEntity,
+                                                                   List<SignatureEntity> signatures) {
         ContractVersionDetailDTO versionDTO = new ContractVersionDetailDTO();
         versionDTO.setId(versionEntity.getId());
         versionDTO.setVersionNumber(versionEntity.getVersionNumber());
@@ -624,8 +825,7 @@ public ContractDetailDTO getContractDetails(Long contractId, String requesterUui
         versionDTO.setStorageProvider(versionEntity.getStorageProvider());
         versionDTO.setBucketName(versionEntity.getBucketName());
 
-        // 해당 버전에 대한 서명 정보 매핑
-        List<SignatureEntity> signatures = signatureRepository.findAllByContractVersion(versionEntity);
+        // 해당 버전에 대한 서명 정보 매핑 (서명자는 함께 로딩되어 있음)
         List<SignatureDetailDTO> signatureDTOs = signatures.stream()
                 .map(sig -> new SignatureDetailDTO(
                         sig.getSigner().getUuid(),
@@ -665,6 +865,8 @@ public void deleteContract(Long contractId, UserEntity requester) {
         contract.setUpdatedAt(LocalDateTime.now());
         contract.setUpdatedBy(requester);
         contractRepository.save(contract);
+        userContractIndexService.onContractDeleted(contractId);
+        publishEvent(ContractEventType.DELETED, contract, requester);
         
         logger.info("계약서 삭제 완료 - contractId: {}, requesterUuid: {}", contractId, requester.getUuid());
     } catch (Exception e) {
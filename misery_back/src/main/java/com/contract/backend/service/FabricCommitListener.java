@@ -0,0 +1,218 @@
+package com.contract.backend.service;
+
+import com.contract.backend.service.BlockchainConfirmationService.CommitEvent;
+import jakarta.annotation.PreDestroy;
+import org.hyperledger.fabric.client.CloseableIterator;
+import org.hyperledger.fabric.client.Network;
+import org.hyperledger.fabric.protos.peer.FilteredBlock;
+import org.hyperledger.fabric.protos.peer.FilteredTransaction;
+import org.hyperledger.fabric.protos.peer.TxValidationCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피어의 filtered block 이벤트를 구독하여 앵커링된 트랜잭션의 커밋 여부를 BlockchainCommitTracker 로 전달합니다.
+ * 스트림이 끊기면 마지막으로 받은 블록 다음부터 다시 구독합니다. 구독 피어는 FabricPeerPool 이 정상으로 보는 피어 중에서 고르며,
+ * 연결 오류로 끊긴 피어는 후순위로 밀려 다음 재구독 시 다른 피어로 넘어갑니다.
+ *
+ * 체크포인트와 재시도 상태가 노드마다 갈라지지 않도록 구독은 job_leases 점유("fabric-commit-listener")를 가진 노드 하나에서만 실행합니다.
+ * 점유는 leaseSeconds 의 1/3 마다 연장하며, 연장에 실패하면 구독을 멈추고 대기 노드로 돌아갑니다.
+ * 대기 노드는 reconnectDelayMs 마다 점유를 시도하므로, 구독 노드가 죽으면 만료 후 이어받아 체크포인트부터 다시 읽습니다.
+ */
+@Service
+@Profile("!simulated-ledger")
+public class FabricCommitListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(FabricCommitListener.class);
+    private static final String LEASE_NAME = "fabric-commit-listener";
+
+    private final FabricPeerPool peerPool;
+    private final BlockchainCommitTracker commitTracker;
+    private final JobLeaseService jobLeaseService;
+
+    @Value("${fabric.events.enabled:true}")
+    private boolean enabled;
+
+    @Value("${fabric.events.reconnectDelayMs:5000}")
+    private long reconnectDelayMs;
+
+    @Value("${fabric.events.leaseSeconds:30}")
+    private long leaseSeconds;
+
+    private volatile boolean running;
+    private volatile boolean leading; // 이 노드가 점유를 가지고 구독 중인지
+    private volatile CloseableIterator<FilteredBlock> currentEvents;
+    private Thread subscriberThread;
+    private ScheduledExecutorService leaseRenewer;
+
+    public FabricCommitListener(FabricPeerPool peerPool,
+                                BlockchainCommitTracker commitTracker,
+                                JobLeaseService jobLeaseService) {
+        this.peerPool = peerPool;
+        this.commitTracker = commitTracker;
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            logger.info("Fabric commit listener disabled (fabric.events.enabled=false)");
+            return;
+        }
+        running = true;
+
+        long renewIntervalMs = Math.max(1000, TimeUnit.SECONDS.toMillis(leaseSeconds) / 3);
+        leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fabric-commit-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        leaseRenewer.scheduleWithFixedDelay(this::renewLease, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+
+        subscriberThread = new Thread(this::subscribeLoop, "fabric-commit-listener");
+        subscriberThread.setDaemon(true);
+        subscriberThread.start();
+        logger.info("Fabric commit listener started (lease: {}, {}s)", LEASE_NAME, leaseSeconds);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        if (leaseRenewer != null) {
+            leaseRenewer.shutdownNow();
+        }
+        closeCurrentEvents();
+        if (subscriberThread != null) {
+            subscriberThread.interrupt();
+        }
+        if (leading) {
+            // 마지막 체크포인트를 저장한 뒤 점유를 풀어 다른 노드가 바로 이어받게 함
+            commitTracker.stop();
+            leading = false;
+            jobLeaseService.release(LEASE_NAME);
+        }
+    }
+
+    private void renewLease() {
+        if (!leading) {
+            return;
+        }
+        boolean renewed;
+        try {
+            renewed = jobLeaseService.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseSeconds));
+        } catch (Exception e) {
+            logger.warn("Failed to renew Fabric commit listener lease: {}", e.getMessage());
+            renewed = false;
+        }
+        if (!renewed && leading) {
+            // 다른 노드가 이어받을 수 있으므로 체크포인트를 더 쓰지 않도록 처리 상태를 버리고 구독을 끊음
+            logger.warn("Lost Fabric commit listener lease, stopping block event subscription");
+            leading = false;
+            closeCurrentEvents();
+            commitTracker.pause();
+        }
+    }
+
+    // 점유를 가져오면 true (이미 가진 경우 포함)
+    private boolean acquireLease() {
+        if (leading) {
+            return true;
+        }
+        try {
+            if (!jobLeaseService.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseSeconds))) {
+                return false;
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to acquire Fabric commit listener lease: {}", e.getMessage());
+            return false;
+        }
+        long resumeFrom = commitTracker.start();
+        leading = true;
+        logger.info("Acquired Fabric commit listener lease, resuming from block {}", resumeFrom);
+        return true;
+    }
+
+    private void closeCurrentEvents() {
+        CloseableIterator<FilteredBlock> events = currentEvents;
+        if (events != null) {
+            events.close();
+        }
+    }
+
+    private void subscribeLoop() {
+        while (running) {
+            if (!acquireLease()) {
+                // 대기 노드: 구독 노드가 점유를 놓거나 만료될 때까지 기다림
+                if (!sleepQuietly(reconnectDelayMs)) {
+                    return;
+                }
+                continue;
+            }
+            FabricPeerPool.Peer peer = null;
+            try {
+                peer = peerPool.submitOrder().get(0); // 첫 구독 시 피어 연결
+                Network network = peer.getNetwork();
+                long resumeFrom = commitTracker.nextBlock();
+                logger.info("Subscribing to filtered block events from block {} via {}", resumeFrom, peer.getEndpoint());
+
+                try (CloseableIterator<FilteredBlock> events = network.newFilteredBlockEventsRequest()
+                        .startBlock(resumeFrom)
+                        .build()
+                        .getEvents()) {
+                    currentEvents = events;
+                    while (running && leading && events.hasNext()) {
+                        onBlock(events.next());
+                    }
+                } finally {
+                    currentEvents = null;
+                }
+            } catch (Exception e) {
+                // 점유를 잃어 스트림을 닫은 경우는 오류가 아님
+                if (running && leading && peer == null) {
+                    logger.warn("Fabric peers unavailable for block event subscription: {}", e.getMessage());
+                } else if (running && leading) {
+                    peer.reportFailure(e);
+                    logger.warn("Fabric block event stream from {} interrupted: {}", peer.getEndpoint(), e.getMessage());
+                }
+            }
+
+            if (running && !sleepQuietly(reconnectDelayMs)) {
+                return;
+            }
+        }
+    }
+
+    private boolean sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void onBlock(FilteredBlock block) {
+        List<CommitEvent> commits = new ArrayList<>();
+        for (FilteredTransaction tx : block.getFilteredTransactionsList()) {
+            boolean valid = tx.getTxValidationCode() == TxValidationCode.VALID;
+            commits.add(new CommitEvent(tx.getTxid(), block.getNumber(), valid));
+        }
+        commitTracker.onBlock(block.getNumber(), commits);
+    }
+}
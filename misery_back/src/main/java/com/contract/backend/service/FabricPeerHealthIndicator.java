@@ -0,0 +1,43 @@
+package com.contract.backend.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/health 의 fabricPeers 항목. 정상 피어가 하나라도 있으면 UP 입니다.
+ */
+@Component("fabricPeers")
+@Profile("!simulated-ledger")
+public class FabricPeerHealthIndicator implements HealthIndicator {
+
+    private final FabricPeerPool peerPool;
+
+    public FabricPeerHealthIndicator(FabricPeerPool peerPool) {
+        this.peerPool = peerPool;
+    }
+
+    @Override
+    public Health health() {
+        if (!peerPool.isConnected()) {
+            // 첫 원장 호출 전에는 연결하지 않으므로 상태를 알 수 없음
+            return Health.unknown().withDetail("connected", false).build();
+        }
+        boolean anyHealthy = false;
+        Health.Builder builder = new Health.Builder();
+        for (FabricPeerPool.Peer peer : peerPool.getPeers()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("healthy", peer.isHealthy());
+            details.put("latencyEwmaMs", Math.round(peer.getEwmaMillis() * 10) / 10.0);
+            details.put("inFlight", peer.getInFlight());
+            details.put("consecutiveFailures", peer.getConsecutiveFailures());
+            builder.withDetail(peer.getEndpoint(), details);
+            anyHealthy |= peer.isHealthy();
+        }
+        return (anyHealthy ? builder.up() : builder.down()).build();
+    }
+}
@@ -0,0 +1,382 @@
+package com.contract.backend.service;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.hyperledger.fabric.client.Contract;
+import org.hyperledger.fabric.client.Gateway;
+import org.hyperledger.fabric.client.GatewayException;
+import org.hyperledger.fabric.client.GatewayRuntimeException;
+import org.hyperledger.fabric.client.Network;
+import org.hyperledger.fabric.client.identity.Identities;
+import org.hyperledger.fabric.client.identity.Identity;
+import org.hyperledger.fabric.client.identity.Signer;
+import org.hyperledger.fabric.client.identity.Signers;
+import org.hyperledger.fabric.client.identity.X509Identity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 조직 내 여러 피어에 대한 gRPC 채널과 Gateway 를 재사용 가능한 형태로 유지합니다.
+ *
+ * - 조회(evaluate): 정상 피어 중 무작위 두 개를 골라 (EWMA 지연 x 처리 중 요청 수)가 작은 쪽을 우선 사용
+ * - 제출(endorse/submit): 지연이 가장 작은 정상 피어부터 순서대로 시도
+ * - 연결성 오류(UNAVAILABLE, DEADLINE_EXCEEDED 등)가 난 피어는 일정 시간 후순위로 밀리며,
+ *   연속 실패 시 대기 시간이 maxFailureCooldownMs 까지 늘어납니다.
+ * 피어별 호출 지연/결과는 fabric.peer.* 메트릭으로 노출됩니다.
+ * 인증서/키 로딩과 피어 연결은 첫 사용 시점에 수행하므로, Fabric 자격 증명이 없어도 애플리케이션은 기동됩니다.
+ * 연결에 실패하면 예외를 던지고 다음 호출에서 다시 시도합니다.
+ */
+@Component
+@Profile("!simulated-ledger")
+public class FabricPeerPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(FabricPeerPool.class);
+    private static final double EWMA_ALPHA = 0.2;
+    private static final Set<Status.Code> CONNECTIVITY_FAILURES = EnumSet.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.CANCELLED);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fabric.mspId}")
+    private String mspId;
+
+    @Value("${fabric.channelName}")
+    private String channelName;
+
+    @Value("${fabric.chaincodeName}")
+    private String chaincodeName;
+
+    @Value("${fabric.credentials.certificatePath}")
+    private String certificatePathString;
+
+    @Value("${fabric.credentials.privateKeyPath}")
+    private String privateKeyPathString;
+
+    // 쉼표로 구분한 피어 목록, 각 항목은 host:port 또는 host:port=tlsAuthority
+    @Value("${fabric.gateway.peerEndpoints:${fabric.gateway.peerEndpoint}}")
+    private String[] peerEndpoints;
+
+    @Value("${fabric.gateway.tlsCaCertPath}")
+    private String tlsCaCertPathString;
+
+    // 단일 피어 설정과의 호환용 (항목에 authority 가 없을 때 사용)
+    @Value("${fabric.gateway.overrideAuth:#{null}}")
+    private String overrideAuth;
+
+    @Value("${fabric.gateway.failureCooldownMs:10000}")
+    private long failureCooldownMs;
+
+    @Value("${fabric.gateway.maxFailureCooldownMs:60000}")
+    private long maxFailureCooldownMs;
+
+    private final Object connectLock = new Object();
+    private volatile List<Peer> peers; // 연결 전에는 null
+
+    public FabricPeerPool(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private List<Peer> connectedPeers() {
+        List<Peer> connected = peers;
+        if (connected != null) {
+            return connected;
+        }
+        synchronized (connectLock) {
+            if (peers == null) {
+                try {
+                    peers = connect();
+                } catch (IOException | CertificateException | InvalidKeyException e) {
+                    throw new IllegalStateException("Failed to connect to Fabric peers: " + e.getMessage(), e);
+                }
+            }
+            return peers;
+        }
+    }
+
+    private List<Peer> connect() throws IOException, CertificateException, InvalidKeyException {
+        X509Certificate certificate = Identities.readX509Certificate(Files.newBufferedReader(Paths.get(certificatePathString)));
+        PrivateKey privateKey = Identities.readPrivateKey(Files.newBufferedReader(Paths.get(privateKeyPathString)));
+        Identity identity = new X509Identity(mspId, certificate);
+        Signer signer = Signers.newPrivateKeySigner(privateKey);
+
+        List<Peer> connected = new ArrayList<>();
+        for (String entry : peerEndpoints) {
+            if (entry == null || entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split("=", 2);
+            String endpoint = parts[0].trim();
+            String authority = parts.length > 1 ? parts[1].trim()
+                    : (overrideAuth != null ? overrideAuth : endpoint.split(":")[0]);
+
+            ManagedChannel channel = openChannel(endpoint, authority);
+            Gateway gateway = Gateway.newInstance()
+                    .identity(identity)
+                    .signer(signer)
+                    .connection(channel)
+                    .evaluateOptions(options -> options.withDeadlineAfter(5, TimeUnit.SECONDS))
+                    .endorseOptions(options -> options.withDeadlineAfter(15, TimeUnit.SECONDS))
+                    .submitOptions(options -> options.withDeadlineAfter(15, TimeUnit.SECONDS))
+                    .commitStatusOptions(options -> options.withDeadlineAfter(1, TimeUnit.MINUTES))
+                    .connect();
+            Network network = gateway.getNetwork(channelName);
+            Peer peer = new Peer(endpoint, channel, gateway, network, network.getContract(chaincodeName));
+            registerGauges(peer);
+            connected.add(peer);
+            logger.info("Fabric peer registered: {} (authority: {})", endpoint, authority);
+        }
+        if (connected.isEmpty()) {
+            throw new IllegalStateException("No Fabric peer endpoint configured (fabric.gateway.peerEndpoints)");
+        }
+        return Collections.unmodifiableList(connected);
+    }
+
+    @PreDestroy
+    public void close() {
+        List<Peer> connected = peers;
+        if (connected == null) {
+            return;
+        }
+        for (Peer peer : connected) {
+            try {
+                peer.gateway.close();
+            } finally {
+                peer.channel.shutdownNow();
+            }
+        }
+    }
+
+    public String getChannelName() {
+        return channelName;
+    }
+
+    // 연결된 피어 목록 (아직 연결 전이면 비어 있음, 연결을 시작하지 않음)
+    public List<Peer> getPeers() {
+        List<Peer> connected = peers;
+        return connected != null ? connected : Collections.emptyList();
+    }
+
+    public boolean isConnected() {
+        return peers != null;
+    }
+
+    /**
+     * 조회 요청을 시도할 피어 순서. 첫 번째 피어는 정상 피어 중 두 개를 무작위로 골라 부하가 적은 쪽이며,
+     * 나머지는 실패 시 넘어갈 순서입니다.
+     */
+    public List<Peer> evaluateOrder() {
+        long now = System.currentTimeMillis();
+        List<Peer> healthy = new ArrayList<>();
+        for (Peer peer : connectedPeers()) {
+            if (peer.isHealthy(now)) {
+                healthy.add(peer);
+            }
+        }
+        if (healthy.size() < 2) {
+            return submitOrder();
+        }
+        // 점수로 정렬하지 않은 정상 피어 목록에서 두 개를 뽑아 비교 (정렬된 목록에서 뽑으면 상위 피어로 치우침)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(healthy.size());
+        int second = random.nextInt(healthy.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        Peer chosen = healthy.get(first).score() <= healthy.get(second).score() ? healthy.get(first) : healthy.get(second);
+
+        // 나머지는 실패 시 넘어갈 순서 (제출 순서와 동일)
+        List<Peer> ordered = new ArrayList<>();
+        ordered.add(chosen);
+        for (Peer peer : submitOrder()) {
+            if (peer != chosen) {
+                ordered.add(peer);
+            }
+        }
+        return ordered;
+    }
+
+    // 제출/이벤트 구독용 피어 순서: 정상 피어(부하 점수 순) 다음 장애 피어(복구 예정 시각 순)
+    public List<Peer> submitOrder() {
+        long now = System.currentTimeMillis();
+        List<Peer> healthy = new ArrayList<>();
+        List<Peer> unhealthy = new ArrayList<>();
+        for (Peer peer : connectedPeers()) {
+            (peer.isHealthy(now) ? healthy : unhealthy).add(peer);
+        }
+        healthy.sort(Comparator.comparingDouble(Peer::score));
+        unhealthy.sort(Comparator.comparingLong(peer -> peer.unhealthyUntil));
+        healthy.addAll(unhealthy);
+        return healthy;
+    }
+
+    // 다른 피어로 재시도할 가치가 있는 오류인지 (체인코드 오류 등 응답을 받은 경우는 제외)
+    public static boolean isConnectivityFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            Status status = null;
+            if (cause instanceof GatewayException) {
+                status = ((GatewayException) cause).getStatus();
+            } else if (cause instanceof GatewayRuntimeException) {
+                status = ((GatewayRuntimeException) cause).getStatus();
+            }
+            if (status != null) {
+                return CONNECTIVITY_FAILURES.contains(status.getCode());
+            }
+        }
+        return false;
+    }
+
+    private ManagedChannel openChannel(String endpoint, String authority) throws IOException {
+        try (InputStream tlsCaCertInputStream = Files.newInputStream(Paths.get(tlsCaCertPathString))) {
+            return NettyChannelBuilder.forTarget(endpoint)
+                    .sslContext(GrpcSslContexts.forClient().trustManager(tlsCaCertInputStream).build())
+                    .overrideAuthority(authority)
+                    .build();
+        }
+    }
+
+    private void registerGauges(Peer peer) {
+        Gauge.builder("fabric.peer.latency.ewma", peer, p -> p.ewmaNanos / 1_000_000.0)
+                .tag("peer", peer.endpoint)
+                .baseUnit("milliseconds")
+                .description("EWMA of Fabric peer call latency")
+                .register(meterRegistry);
+        Gauge.builder("fabric.peer.healthy", peer, p -> p.isHealthy() ? 1 : 0)
+                .tag("peer", peer.endpoint)
+                .register(meterRegistry);
+        Gauge.builder("fabric.peer.in_flight", peer, p -> p.inFlight.get())
+                .tag("peer", peer.endpoint)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface PeerCall<T> {
+        T call() throws Exception;
+    }
+
+    public class Peer {
+        private final String endpoint;
+        private final ManagedChannel channel;
+        private final Gateway gateway;
+        private final Network network;
+        private final Contract contract;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double ewmaNanos; // 0 이면 아직 측정 전 (먼저 시도되도록 함)
+        private volatile int consecutiveFailures;
+        private volatile long unhealthyUntil;
+
+        Peer(String endpoint, ManagedChannel channel, Gateway gateway, Network network, Contract contract) {
+            this.endpoint = endpoint;
+            this.channel = channel;
+            this.gateway = gateway;
+            this.network = network;
+            this.contract = contract;
+        }
+
+        /**
+         * 이 피어로 호출을 수행하고 지연/결과를 기록합니다. 예외는 그대로 전달됩니다.
+         *
+         * @param operation 메트릭 태그용 작업 이름 (evaluate, endorse, submit)
+         */
+        public <T> T call(String operation, PeerCall<T> call) throws Exception {
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            String outcome = "success";
+            try {
+                T result = call.call();
+                onSuccess();
+                return result;
+            } catch (Exception e) {
+                if (isConnectivityFailure(e)) {
+                    outcome = "unavailable";
+                    onConnectivityFailure(e);
+                } else {
+                    outcome = "error"; // 피어는 응답했으므로 상태는 정상으로 간주
+                    onSuccess();
+                }
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                inFlight.decrementAndGet();
+                if (!"unavailable".equals(outcome)) {
+                    updateLatency(elapsed);
+                }
+                Timer.builder("fabric.peer.calls")
+                        .tag("peer", endpoint)
+                        .tag("operation", operation)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public String getEndpoint() { return endpoint; }
+        public Gateway getGateway() { return gateway; }
+        public Network getNetwork() { return network; }
+        public Contract getContract() { return contract; }
+        public int getInFlight() { return inFlight.get(); }
+        public int getConsecutiveFailures() { return consecutiveFailures; }
+        public double getEwmaMillis() { return ewmaNanos / 1_000_000.0; }
+
+        public boolean isHealthy() {
+            return isHealthy(System.currentTimeMillis());
+        }
+
+        boolean isHealthy(long now) {
+            return unhealthyUntil <= now;
+        }
+
+        // 이벤트 스트림 등 call() 밖에서 발생한 연결 오류 반영
+        public void reportFailure(Throwable error) {
+            if (isConnectivityFailure(error)) {
+                onConnectivityFailure(error);
+            }
+        }
+
+        double score() {
+            return ewmaNanos * (inFlight.get() + 1);
+        }
+
+        private synchronized void updateLatency(long sampleNanos) {
+            ewmaNanos = ewmaNanos == 0 ? sampleNanos : ewmaNanos + EWMA_ALPHA * (sampleNanos - ewmaNanos);
+        }
+
+        private void onSuccess() {
+            consecutiveFailures = 0;
+            unhealthyUntil = 0;
+        }
+
+        private synchronized void onConnectivityFailure(Throwable error) {
+            int failures = ++consecutiveFailures;
+            long cooldown = Math.min(maxFailureCooldownMs, failureCooldownMs << Math.min(failures - 1, 10));
+            unhealthyUntil = System.currentTimeMillis() + cooldown;
+            logger.warn("Fabric peer {} marked unavailable for {}ms ({} consecutive failures): {}",
+                    endpoint, cooldown, failures, error.getMessage());
+        }
+    }
+}
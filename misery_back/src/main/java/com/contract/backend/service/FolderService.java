@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 public class FolderService {
 
     private static final Logger logger = LoggerFactory.getLogger(FolderService.class);
+    private static final int IN_CLAUSE_CHUNK_SIZE = 500;
 
     private final FolderRepository folderRepository;
     private final FolderContractRepository folderContractRepository;
@@ -51,6 +52,7 @@ public class FolderService {
         }
 
         String folderName = request.getName().trim();
+        validateFolderName(folderName);
         FolderEntity parentFolder = null;
         String folderPath = "/" + folderName;
 
@@ -113,9 +115,47 @@ public class FolderService {
             folders = folderRepository.findByParentAndNotDeleted(parentFolder);
         }
 
-        return folders.stream()
-                .map(folder -> mapToResponseDTO(folder, includeChildren))
-                .collect(Collectors.toList());
+        return mapToResponseDTOs(folders, includeChildren);
+    }
+
+    /**
+     * 사용자의 전체 폴더 트리. 깊이와 관계없이 폴더 목록과 폴더별 계약서 수 두 쿼리로 조회하고,
+     * 부모 ID 로 한 번 순회하며 조립합니다. (형제 폴더는 이름순, 삭제된 폴더 아래에 남은 폴더는 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<FolderResponseDTO> getFolderTree(String userUuid) {
+        UserEntity user = userRepository.findByUuid(userUuid)
+                .orElseThrow(() -> new CustomException(CustomExceptionEnum.USER_NOT_FOUND));
+
+        List<FolderResponseDTO> nodes = folderRepository.findTreeNodesByUser(user);
+        Map<Long, Integer> contractCounts = new HashMap<>();
+        for (Object[] row : folderContractRepository.countContractsByFolderForUser(user)) {
+            contractCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        UserResponseDTO owner = new UserResponseDTO(user.getId(), user.getUserName(), user.getEmail());
+        Map<Long, FolderResponseDTO> byId = new HashMap<>();
+        for (FolderResponseDTO node : nodes) {
+            node.setCreatedBy(owner);
+            node.setChildren(new ArrayList<>());
+            node.setContractsCount(contractCounts.getOrDefault(node.getId(), 0));
+            byId.put(node.getId(), node);
+        }
+
+        List<FolderResponseDTO> roots = new ArrayList<>();
+        for (FolderResponseDTO node : nodes) {
+            if (node.getParentId() == null) {
+                roots.add(node);
+                continue;
+            }
+            FolderResponseDTO parent = byId.get(node.getParentId());
+            if (parent != null) {
+                node.setParentName(parent.getName());
+                parent.getChildren().add(node);
+                parent.setChildrenCount(parent.getChildren().size());
+            }
+        }
+        return roots;
     }
 
     @Transactional(readOnly = true)
@@ -133,17 +173,7 @@ public class FolderService {
         FolderResponseDTO response = mapToResponseDTO(folder, true);
 
         if (includeContracts) {
-            List<ContractEntity> contracts = folderContractRepository.findContractsByFolder(folder);
-            List<ContractListDTO> contractDTOs = contracts.stream()
-                    .map(contract -> new ContractListDTO(
-                            contract.getId(),
-                            contract.getTitle(),
-                            contract.getStatus(),
-                            contract.getCreatedAt(),
-                            contract.getCurrentVersion() != null ? contract.getCurrentVersion().getVersionNumber() : null
-                    ))
-                    .collect(Collectors.toList());
-            response.setContracts(contractDTOs);
+            response.setContracts(folderContractRepository.findContractListByFolder(folder));
         }
 
         return response;
@@ -169,6 +199,7 @@ public class FolderService {
         // 이름 변경
         if (request.getName() != null && !request.getName().trim().isEmpty()) {
             String newName = request.getName().trim();
+            validateFolderName(newName);
             if (!newName.equals(folder.getName())) {
                 // 중복 검사
                 Optional<FolderEntity> existingFolder;
@@ -185,7 +216,6 @@ public class FolderService {
                 }
 
                 folder.setName(newName);
-                updateFolderPath(folder);
                 updated = true;
             }
         }
@@ -202,23 +232,22 @@ public class FolderService {
                     throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
                 }
 
-                // 순환 참조 검사
+                // 순환 참조 검사 (자기 자신 또는 하위 폴더로 이동)
                 if (isCircularReference(folder, newParent)) {
                     throw new CustomException(CustomExceptionEnum.CONTRACT_NOT_MODIFIABLE);
                 }
 
                 folder.setParent(newParent);
-                updateFolderPath(folder);
                 updated = true;
             }
         } else if (request.getParentId() == null && folder.getParent() != null) {
             // 루트로 이동
             folder.setParent(null);
-            updateFolderPath(folder);
             updated = true;
         }
 
         if (updated) {
+            updateFolderPath(folder, user);
             FolderEntity savedFolder = folderRepository.save(folder);
             logger.info("폴더 수정 완료 - id: {}, name: {}, path: {}", 
                     savedFolder.getId(), savedFolder.getName(), savedFolder.getPath());
@@ -241,21 +270,18 @@ public class FolderService {
             throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
         }
 
-        // 하위 폴더가 있는지 확인
-        List<FolderEntity> children = folderRepository.findByParentAndNotDeleted(folder);
-        if (!children.isEmpty()) {
-            throw new CustomException(CustomExceptionEnum.CONTRACT_NOT_MODIFIABLE);
+        // 하위 폴더까지 함께 삭제: ID 재귀 조회 한 번, 청크마다 연결 DELETE 와 논리적 삭제 UPDATE 한 번씩
+        List<Long> subtreeIds = folderRepository.findSubtreeIds(folder.getId());
+        LocalDateTime now = LocalDateTime.now();
+        int unlinked = 0;
+        int deleted = 0;
+        for (int i = 0; i < subtreeIds.size(); i += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = subtreeIds.subList(i, Math.min(subtreeIds.size(), i + IN_CLAUSE_CHUNK_SIZE));
+            // 폴더 내 계약서들을 루트로 이동
+            unlinked += folderContractRepository.deleteByFolderIdIn(chunk);
+            deleted += folderRepository.softDeleteByIdIn(user, chunk, now);
         }
-
-        // 폴더 내 계약서들을 루트로 이동
-        List<ContractEntity> contracts = folderContractRepository.findContractsByFolder(folder);
-        for (ContractEntity contract : contracts) {
-            folderContractRepository.deleteByContract(contract);
-        }
-
-        // 논리적 삭제
-        folder.setDeletedAt(LocalDateTime.now());
-        folderRepository.save(folder);
+        logger.debug("폴더 삭제 - 폴더 {}건, 계약서 연결 해제 {}건", deleted, unlinked);
 
         logger.info("폴더 삭제 완료 - folderId: {}", folderId);
     }
@@ -291,35 +317,93 @@ public class FolderService {
         // folderId가 null이면 루트로 이동 (연결 제거만)
     }
 
-    private void updateFolderPath(FolderEntity folder) {
-        String newPath;
-        if (folder.getParent() != null) {
-            newPath = folder.getParent().getPath() + "/" + folder.getName();
-        } else {
-            newPath = "/" + folder.getName();
+    /**
+     * 폴더 경로를 이름/부모에 맞게 다시 계산하고, 하위 폴더 경로는 UPDATE 한 번으로 앞부분만 교체합니다.
+     * (하위 폴더 수와 관계없이 문장 수가 일정)
+     */
+    private void updateFolderPath(FolderEntity folder, UserEntity user) {
+        String oldPath = folder.getPath();
+        String newPath = (folder.getParent() != null ? folder.getParent().getPath() : "") + "/" + folder.getName();
+        if (newPath.equals(oldPath)) {
+            return;
         }
         folder.setPath(newPath);
 
-        // 하위 폴더들의 경로도 업데이트
-        List<FolderEntity> children = folderRepository.findByParentAndNotDeleted(folder);
-        for (FolderEntity child : children) {
-            updateFolderPath(child);
-            folderRepository.save(child);
+        if (oldPath != null) {
+            String oldPrefix = oldPath + "/";
+            // DB 의 SUBSTRING 은 문자(코드 포인트) 단위이므로 UTF-16 길이가 아닌 코드 포인트 수로 계산
+            int suffixStart = oldPrefix.codePointCount(0, oldPrefix.length()) + 1;
+            int updatedCount = folderRepository.rewritePathPrefix(
+                    user, newPath + "/", suffixStart, escapeLike(oldPrefix) + "%");
+            logger.debug("하위 폴더 경로 변경 - {} -> {}, {}건", oldPath, newPath, updatedCount);
         }
     }
 
+    // 이동 대상이 자기 자신이거나 자신의 하위 폴더인지 (경로 접두사로 판단)
     private boolean isCircularReference(FolderEntity folder, FolderEntity potentialParent) {
-        FolderEntity current = potentialParent;
-        while (current != null) {
-            if (current.getId().equals(folder.getId())) {
-                return true;
-            }
-            current = current.getParent();
+        if (potentialParent.getId().equals(folder.getId())) {
+            return true;
+        }
+        String path = folder.getPath();
+        String parentPath = potentialParent.getPath();
+        return path != null && parentPath != null && parentPath.startsWith(path + "/");
+    }
+
+    // 경로는 '/' 로 구분하므로 이름에 '/' 가 들어가면 접두사 비교가 어긋남
+    private static void validateFolderName(String name) {
+        if (name.contains("/")) {
+            throw new CustomException(CustomExceptionEnum.INVALID_FOLDER_NAME);
         }
-        return false;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 
     private FolderResponseDTO mapToResponseDTO(FolderEntity folder, boolean includeChildren) {
+        return mapToResponseDTOs(List.of(folder), includeChildren).get(0);
+    }
+
+    /**
+     * 폴더 목록 응답 변환. 폴더 수와 관계없이 자식 폴더 조회 한 번, 계약서 수 GROUP BY 한 번으로 처리합니다.
+     */
+    private List<FolderResponseDTO> mapToResponseDTOs(List<FolderEntity> folders, boolean includeChildren) {
+        if (folders.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, List<FolderEntity>> childrenByParent = new HashMap<>();
+        List<Long> folderIds = new ArrayList<>();
+        folders.forEach(folder -> folderIds.add(folder.getId()));
+        if (includeChildren) {
+            for (FolderEntity child : folderRepository.findByParentInAndNotDeleted(folders)) {
+                childrenByParent.computeIfAbsent(child.getParent().getId(), id -> new ArrayList<>()).add(child);
+                folderIds.add(child.getId());
+            }
+        }
+
+        Map<Long, Integer> contractCounts = new HashMap<>();
+        for (Object[] row : folderContractRepository.countContractsByFolderIdIn(folderIds)) {
+            contractCounts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+
+        List<FolderResponseDTO> result = new ArrayList<>();
+        for (FolderEntity folder : folders) {
+            FolderResponseDTO dto = toResponseDTO(folder, contractCounts);
+            if (includeChildren) {
+                List<FolderEntity> children = childrenByParent.getOrDefault(folder.getId(), List.of());
+                List<FolderResponseDTO> childrenDTOs = children.stream()
+                        .map(child -> toResponseDTO(child, contractCounts))
+                        .collect(Collectors.toList());
+                dto.setChildren(childrenDTOs);
+                dto.setChildrenCount(children.size());
+            }
+            result.add(dto);
+        }
+        return result;
+    }
+
+    private FolderResponseDTO toResponseDTO(FolderEntity folder, Map<Long, Integer> contractCounts) {
         FolderResponseDTO dto = new FolderResponseDTO(
                 folder.getId(),
                 folder.getName(),
@@ -337,19 +421,8 @@ public class FolderService {
             dto.setParentName(folder.getParent().getName());
         }
 
-        if (includeChildren) {
-            List<FolderEntity> children = folderRepository.findByParentAndNotDeleted(folder);
-            List<FolderResponseDTO> childrenDTOs = children.stream()
-                    .map(child -> mapToResponseDTO(child, false))
-                    .collect(Collectors.toList());
-            dto.setChildren(childrenDTOs);
-            dto.setChildrenCount(children.size());
-        }
-
         // 계약서 개수 설정
-        List<ContractEntity> contracts = folderContractRepository.findContractsByFolder(folder);
-        dto.setContractsCount(contracts.size());
-
+        dto.setContractsCount(contractCounts.getOrDefault(folder.getId(), 0));
         return dto;
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.IdempotencyKeyEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.IdempotencyStatus;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.exception.CustomExceptionEnum;
+import com.contract.backend.common.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+
+/**
+ * Idempotency-Key 헤더 처리.
+ *
+ * (사용자, 키) 유니크 제약으로 먼저 키를 예약한 요청만 실제로 실행하고, 그 응답 JSON 을 저장해 두었다가
+ * 같은 키의 재시도에는 저장된 응답을 그대로 돌려줍니다. 예약/완료 기록은 실행 트랜잭션과 분리된
+ * 별도 트랜잭션으로 처리하여 실행이 롤백되어도 키 상태가 남도록 합니다.
+ * - 실행 실패: 키를 삭제하여 같은 키로 다시 시도할 수 있음
+ * - 처리 중인 키로 재요청: 409 (inProgressTimeoutSeconds 가 지난 키는 중단된 것으로 보고 다시 실행)
+ * - 같은 키를 다른 요청에 사용: 422
+ */
+@Service
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+
+    @Value("${idempotency.ttlHours:24}")
+    private long ttlHours;
+
+    @Value("${idempotency.inProgressTimeoutSeconds:120}")
+    private long inProgressTimeoutSeconds;
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 키 단위로 action 을 한 번만 실행합니다.
+     *
+     * @param fingerprint 요청 식별 값 (같은 키가 다른 요청에 재사용되었는지 판단)
+     * @return action 결과의 JSON (재시도 시에는 처음 저장된 JSON)
+     */
+    public String execute(UserEntity user, String key, String fingerprint, Callable<?> action) throws Exception {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(CustomExceptionEnum.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long reservedId;
+            try {
+                reservedId = requiresNew.execute(status -> idempotencyKeyRepository
+                        .saveAndFlush(new IdempotencyKeyEntity(user, key, fingerprint))
+                        .getId());
+            } catch (DataIntegrityViolationException e) {
+                IdempotencyKeyEntity existing = requiresNew.execute(status ->
+                        idempotencyKeyRepository.findByUser_IdAndIdemKey(user.getId(), key).orElse(null));
+                if (existing == null) {
+                    continue; // 그 사이 삭제됨 (이전 실행 실패) → 다시 예약
+                }
+                if (!existing.getRequestFingerprint().equals(fingerprint)) {
+                    throw new CustomException(CustomExceptionEnum.IDEMPOTENCY_KEY_REUSED);
+                }
+                if (existing.getStatus() == IdempotencyStatus.COMPLETED) {
+                    logger.info("Replaying stored response for idempotency key {} (user {})", key, user.getUuid());
+                    return existing.getResponseBody();
+                }
+                LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(inProgressTimeoutSeconds);
+                Integer deleted = requiresNew.execute(status ->
+                        idempotencyKeyRepository.deleteIfStale(existing.getId(), staleBefore));
+                if (deleted != null && deleted > 0) {
+                    logger.warn("Idempotency key {} (user {}) was abandoned in progress, executing again", key, user.getUuid());
+                    continue;
+                }
+                throw new CustomException(CustomExceptionEnum.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+            }
+            return runAndComplete(reservedId, action);
+        }
+        throw new CustomException(CustomExceptionEnum.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+    }
+
+    // 순서/중복과 무관한 ID 집합 요청의 식별 값 (prefix:SHA-256)
+    public static String fingerprint(String prefix, Collection<Long> ids) {
+        TreeSet<Long> sorted = new TreeSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(sorted::add);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sorted.toString().getBytes(StandardCharsets.UTF_8));
+            return prefix + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private String runAndComplete(Long reservedId, Callable<?> action) throws Exception {
+        Object result;
+        try {
+            result = action.call();
+        } catch (Exception e) {
+            requiresNew.executeWithoutResult(status -> idempotencyKeyRepository.deleteById(reservedId));
+            throw e;
+        }
+
+        String responseBody = objectMapper.writeValueAsString(result);
+        requiresNew.executeWithoutResult(status -> idempotencyKeyRepository.findById(reservedId).ifPresent(key -> {
+            key.setStatus(IdempotencyStatus.COMPLETED);
+            key.setResponseBody(responseBody);
+            key.setCompletedAt(LocalDateTime.now());
+        }));
+        return responseBody;
+    }
+
+    // 보관 기간이 지난 키 정리
+    @Scheduled(fixedDelayString = "${idempotency.cleanupIntervalMs:3600000}")
+    public void purgeExpired() {
+        try {
+            Integer deleted = requiresNew.execute(status ->
+                    idempotencyKeyRepository.deleteExpired(LocalDateTime.now().minusHours(ttlHours)));
+            if (deleted != null && deleted > 0) {
+                logger.info("Purged {} expired idempotency keys", deleted);
+            }
+        } catch (Exception e) {
+            logger.error("Idempotency key cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+}
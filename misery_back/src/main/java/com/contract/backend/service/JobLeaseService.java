@@ -0,0 +1,84 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.JobLeaseEntity;
+import com.contract.backend.common.repository.JobLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * job_leases 테이블을 이용한 노드 간 작업 점유.
+ *
+ * 점유는 만료 시각이 있는 행 하나로 표현하며, 조건부 UPDATE 한 번으로 가져오므로 동시에 한 노드만 성공합니다.
+ * 오래 걸리는 작업은 배치마다 다시 tryAcquire 를 호출해 연장하고, 연장에 실패하면 더 진행하지 않아야 합니다.
+ * 노드가 비정상 종료되어도 만료 시각이 지나면 다른 노드가 이어받습니다.
+ */
+@Service
+public class JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate leaseTransaction;
+    private final String owner;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 점유를 가져오거나 (이미 가진 경우) 연장합니다.
+     *
+     * @return 이 노드가 duration 동안 작업을 진행해도 되면 true
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(duration);
+        Integer updated = leaseTransaction.execute(status -> jobLeaseRepository.tryAcquire(name, owner, now, lockedUntil));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+        // 처음 실행되는 작업: 행을 만들면서 점유 (동시에 만든 노드는 기본키 충돌로 실패)
+        try {
+            return Boolean.TRUE.equals(leaseTransaction.execute(status -> {
+                if (jobLeaseRepository.existsById(name)) {
+                    return false;
+                }
+                jobLeaseRepository.saveAndFlush(new JobLeaseEntity(name, owner, lockedUntil));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    // 작업이 끝나면 바로 다른 노드가 가져갈 수 있도록 만료시킵니다.
+    public void release(String name) {
+        try {
+            leaseTransaction.executeWithoutResult(status -> jobLeaseRepository.release(name, owner, LocalDateTime.now()));
+        } catch (Exception e) {
+            // 만료 시각이 지나면 자연히 풀림
+            logger.warn("Failed to release job lease {}: {}", name, e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainRecordEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.LedgerDiscrepancyEntity;
+import com.contract.backend.common.Entity.SignatureEntity;
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.Entity.enumm.DiscrepancyType;
+import com.contract.backend.common.dto.ContractIntegrityVerificationDTO;
+import com.contract.backend.common.dto.ContractIntegrityVerificationDTO.VerificationStatus;
+import com.contract.backend.common.repository.BlockchainRecordRepository;
+import com.contract.backend.common.repository.LedgerDiscrepancyRepository;
+import com.contract.backend.common.repository.SignatureRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * blockchain_records 와 원장 상태를 주기적으로 대조하여 불일치를 ledger_discrepancies 에 기록합니다.
+ *
+ * 마지막으로 점검한 기록 ID를 워터마크(blockchain_checkpoints)로 저장하고 그 이후 기록만 ID 순으로 읽으므로
+ * 기록 수가 늘어도 전체를 다시 훑지 않습니다. 워터마크는 다음 경우 그 앞에서 멈춥니다.
+ * - 아직 커밋 확인 대기(PENDING) 중이고 유예 시간이 지나지 않은 기록
+ * - 원장 조회가 실패한 기록 (다음 실행에서 다시 점검)
+ * 여러 노드에서 동시에 점검하지 않도록 배치마다 DB 점유(JobLeaseService)를 가져오거나 연장하고, 실패하면 중단합니다.
+ */
+@Service
+public class LedgerReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerReconciliationService.class);
+    static final String CHECKPOINT_NAME = "ledger-reconciliation";
+    private static final int MAX_DETAILS_LENGTH = 4000;
+
+    private final BlockchainRecordRepository blockchainRecordRepository;
+    private final SignatureRepository signatureRepository;
+    private final LedgerDiscrepancyRepository ledgerDiscrepancyRepository;
+    private final BlockchainConfirmationService confirmationService;
+    private final ContractService contractService;
+    private final BlockchainService blockchainService;
+    private final JobLeaseService jobLeaseService;
+
+    @Value("${reconciliation.enabled:true}")
+    private boolean enabled;
+
+    @Value("${reconciliation.batchSize:200}")
+    private int batchSize;
+
+    // 배치 내 원장 조회 동시 실행 수
+    @Value("${reconciliation.parallelism:4}")
+    private int parallelism;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (밀린 기록은 다음 실행에서 이어서 처리)
+    @Value("${reconciliation.maxBatchesPerRun:50}")
+    private int maxBatchesPerRun;
+
+    // PENDING 기록을 커밋 실패로 보고 점검하기까지 기다리는 시간
+    @Value("${reconciliation.pendingGraceMinutes:60}")
+    private long pendingGraceMinutes;
+
+    // 노드 간 점유 유지 시간 (배치 하나를 처리하는 시간보다 충분히 길게)
+    @Value("${reconciliation.leaseSeconds:600}")
+    private long leaseSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ExecutorService ledgerReadExecutor;
+
+    public LedgerReconciliationService(
+            BlockchainRecordRepository blockchainRecordRepository,
+            SignatureRepository signatureRepository,
+            LedgerDiscrepancyRepository ledgerDiscrepancyRepository,
+            BlockchainConfirmationService confirmationService,
+            ContractService contractService,
+            @Qualifier("blockchainService") BlockchainService blockchainService,
+            JobLeaseService jobLeaseService) {
+        this.blockchainRecordRepository = blockchainRecordRepository;
+        this.signatureRepository = signatureRepository;
+        this.ledgerDiscrepancyRepository = ledgerDiscrepancyRepository;
+        this.confirmationService = confirmationService;
+        this.contractService = contractService;
+        this.blockchainService = blockchainService;
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ledgerReadExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ledger-reconciliation-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ledgerReadExecutor != null) {
+            ledgerReadExecutor.shutdownNow();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${reconciliation.initialDelayMs:60000}",
+            fixedDelayString = "${reconciliation.intervalMs:300000}")
+    public void runScheduled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            logger.error("Ledger reconciliation run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 워터마크 이후 기록을 최대 maxBatchesPerRun 배치만큼 점검합니다. 이 노드나 다른 노드에서 이미 실행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 이번 실행에서 점검을 마친 기록 수
+     */
+    public int reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        boolean leased = false;
+        try {
+            int checked = 0;
+            int discrepancies = 0;
+            long watermark = 0L;
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                // 배치마다 점유를 연장하고 워터마크는 점유를 가진 상태에서 읽음 (다른 노드가 진행시켰을 수 있음)
+                if (!jobLeaseService.tryAcquire(CHECKPOINT_NAME, Duration.ofSeconds(leaseSeconds))) {
+                    if (leased) {
+                        logger.warn("Ledger reconciliation lease lost, stopping at watermark {}", watermark);
+                    }
+                    break;
+                }
+                if (!leased) {
+                    leased = true;
+                    watermark = confirmationService.loadCheckpoint(CHECKPOINT_NAME).orElse(0L);
+                }
+                BatchResult result = reconcileBatch(watermark);
+                if (result.watermark > watermark) {
+                    confirmationService.saveCheckpoint(CHECKPOINT_NAME, result.watermark);
+                    watermark = result.watermark;
+                }
+                checked += result.checked;
+                discrepancies += result.discrepancies;
+                if (result.stopped) {
+                    break;
+                }
+            }
+            if (checked > 0) {
+                logger.info("원장 정합성 점검 완료 - 점검: {}, 불일치: {}, 워터마크: {}", checked, discrepancies, watermark);
+            }
+            return checked;
+        } finally {
+            if (leased) {
+                jobLeaseService.release(CHECKPOINT_NAME);
+            }
+            running.set(false);
+        }
+    }
+
+    private BatchResult reconcileBatch(long watermark) {
+        List<BlockchainRecordEntity> batch = blockchainRecordRepository
+                .findReconciliationBatch(watermark, PageRequest.of(0, batchSize));
+
+        // 유예 시간 내의 PENDING 기록 앞까지만 점검 (커밋 확인 후 다음 실행에서 점검)
+        LocalDateTime pendingCutoff = LocalDateTime.now().minusMinutes(pendingGraceMinutes);
+        List<BlockchainRecordEntity> ready = new ArrayList<>();
+        for (BlockchainRecordEntity record : batch) {
+            if (record.getAnchorStatus() == AnchorStatus.PENDING && record.getRecordedAt().isAfter(pendingCutoff)) {
+                break;
+            }
+            ready.add(record);
+        }
+        boolean reachedEnd = batch.size() < batchSize || ready.size() < batch.size();
+        if (ready.isEmpty()) {
+            return new BatchResult(watermark, 0, 0, true);
+        }
+
+        List<ContractVersionEntity> versions = ready.stream()
+                .filter(record -> record.getAnchorStatus() != AnchorStatus.INVALID)
+                .map(BlockchainRecordEntity::getContractVersion)
+                .collect(Collectors.toList());
+        Map<Long, List<SignatureEntity>> signaturesByVersionId = versions.isEmpty()
+                ? Collections.emptyMap()
+                : signatureRepository.findAllWithSignerByContractVersionIn(versions).stream()
+                        .collect(Collectors.groupingBy(signature -> signature.getContractVersion().getId()));
+
+        // 원장 조회는 병렬로, 결과 반영은 ID 순서대로
+        Map<Long, Future<LedgerRead>> reads = new HashMap<>();
+        for (BlockchainRecordEntity record : ready) {
+            if (record.getAnchorStatus() != AnchorStatus.INVALID) {
+                Long versionId = record.getContractVersion().getId();
+                reads.put(record.getId(), ledgerReadExecutor.submit(() -> readLedger(versionId)));
+            }
+        }
+
+        List<LedgerDiscrepancyEntity> found = new ArrayList<>();
+        long newWatermark = watermark;
+        int checked = 0;
+        boolean stopped = reachedEnd;
+        for (BlockchainRecordEntity record : ready) {
+            if (record.getAnchorStatus() == AnchorStatus.INVALID) {
+                found.add(new LedgerDiscrepancyEntity(record, DiscrepancyType.ANCHOR_INVALID,
+                        "앵커링 트랜잭션이 INVALID 로 커밋되었습니다 (TxID: " + record.getTxHash() + ", 블록: " + record.getBlockNumber() + ")"));
+            } else {
+                LedgerRead read = awaitRead(reads.get(record.getId()));
+                if (read.error != null) {
+                    // 일시적인 원장 장애로 보고 이 기록부터 다음 실행에서 다시 점검
+                    logger.warn("Ledger reconciliation paused at record {}: {}", record.getId(), read.error.getMessage());
+                    reads.values().forEach(future -> future.cancel(true));
+                    stopped = true;
+                    break;
+                }
+                ContractVersionEntity version = record.getContractVersion();
+                ContractIntegrityVerificationDTO verification = contractService.evaluateIntegrity(
+                        version.getContract(), version, record,
+                        signaturesByVersionId.getOrDefault(version.getId(), Collections.emptyList()),
+                        read.metadataBytes, null);
+                found.addAll(toDiscrepancies(record, verification));
+            }
+            newWatermark = record.getId();
+            checked++;
+        }
+
+        if (!found.isEmpty()) {
+            ledgerDiscrepancyRepository.saveAll(found);
+        }
+        return new BatchResult(newWatermark, checked, found.size(), stopped);
+    }
+
+    private LedgerRead readLedger(Long contractVersionId) {
+        try {
+            return new LedgerRead(blockchainService.getContractMetadataBytesFromBlockchain(contractVersionId), null);
+        } catch (Exception e) {
+            return new LedgerRead(null, e);
+        }
+    }
+
+    private LedgerRead awaitRead(Future<LedgerRead> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new LedgerRead(null, e);
+        } catch (ExecutionException e) {
+            return new LedgerRead(null, e);
+        }
+    }
+
+    private List<LedgerDiscrepancyEntity> toDiscrepancies(BlockchainRecordEntity record,
+                                                          ContractIntegrityVerificationDTO verification) {
+        List<LedgerDiscrepancyEntity> discrepancies = new ArrayList<>();
+        ContractIntegrityVerificationDTO.VerificationStep dbStep = verification.getDbVerification();
+        ContractIntegrityVerificationDTO.VerificationStep chainStep = verification.getBlockchainVerification();
+
+        if (dbStep.getStatus() == VerificationStatus.DATA_NOT_FOUND) {
+            discrepancies.add(new LedgerDiscrepancyEntity(record, DiscrepancyType.MISSING_ON_LEDGER, describe(dbStep)));
+            return discrepancies;
+        }
+        if (dbStep.getStatus() == VerificationStatus.FAILED) {
+            discrepancies.add(new LedgerDiscrepancyEntity(record, DiscrepancyType.HASH_MISMATCH, describe(dbStep)));
+        }
+        if (chainStep.getStatus() == VerificationStatus.FAILED) {
+            discrepancies.add(new LedgerDiscrepancyEntity(record, DiscrepancyType.DATA_MISMATCH, describe(chainStep)));
+        } else if (chainStep.getStatus() == VerificationStatus.ERROR) {
+            discrepancies.add(new LedgerDiscrepancyEntity(record, DiscrepancyType.METADATA_UNREADABLE, describe(chainStep)));
+        }
+        return discrepancies;
+    }
+
+    private static String describe(ContractIntegrityVerificationDTO.VerificationStep step) {
+        StringBuilder sb = new StringBuilder(step.getDetails() != null ? step.getDetails() : "");
+        for (String discrepancy : step.getDiscrepancies()) {
+            sb.append('\n').append(discrepancy);
+        }
+        return sb.length() > MAX_DETAILS_LENGTH ? sb.substring(0, MAX_DETAILS_LENGTH) : sb.toString();
+    }
+
+    private static class LedgerRead {
+        final byte[] metadataBytes;
+        final Exception error;
+
+        LedgerRead(byte[] metadataBytes, Exception error) {
+            this.metadataBytes = metadataBytes;
+            this.error = error;
+        }
+    }
+
+    private static class BatchResult {
+        final long watermark;
+        final int checked;
+        final int discrepancies;
+        final boolean stopped; // 이번 실행에서 더 진행하지 않음
+
+        BatchResult(long watermark, int checked, int discrepancies, boolean stopped) {
+            this.watermark = watermark;
+            this.checked = checked;
+            this.discrepancies = discrepancies;
+            this.stopped = stopped;
+        }
+    }
+}
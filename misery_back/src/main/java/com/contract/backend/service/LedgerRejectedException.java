@@ -0,0 +1,16 @@
+package com.contract.backend.service;
+
+/**
+ * 체인코드가 요청을 거절한 경우 (예: 이미 존재하는 키, 존재하지 않는 자산).
+ * 원장 자체는 정상 응답한 것이므로 "fabric" 서킷브레이커의 실패로 집계하지 않습니다. (application.yml ignoreExceptions)
+ */
+public class LedgerRejectedException extends RuntimeException {
+
+    public LedgerRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public LedgerRejectedException(String message) {
+        super(message);
+    }
+}
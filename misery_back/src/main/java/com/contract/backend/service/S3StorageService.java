@@ -1,10 +1,18 @@
 package com.contract.backend.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.io.IOException;
 
 public interface S3StorageService {
     String upload(MultipartFile file) throws IOException;
     String getBucketName();
+
+    // 파일 미리보기/다운로드용 조회
+    HeadObjectResponse headObject(String key);
+    ResponseInputStream<GetObjectResponse> getObject(String key);
+    ResponseInputStream<GetObjectResponse> getObjectRange(String key, long start, long end);
 }
@@ -2,33 +2,33 @@ package com.contract.backend.service;
 
 import com.contract.backend.common.Entity.*;
 import com.contract.backend.common.Entity.enumm.ContractStatus;
-import com.contract.backend.common.Entity.enumm.PartyRole;
 import com.contract.backend.common.Entity.enumm.VersionStatus;
-import com.contract.backend.common.dto.BlockchainMetadataDTO; // DTO 임포트
+import com.contract.backend.common.dto.BatchSignResultDTO;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractEventType;
 import com.contract.backend.common.exception.CustomException;
 import com.contract.backend.common.exception.CustomExceptionEnum;
 import com.contract.backend.common.repository.ContractPartyRepository;
 import com.contract.backend.common.repository.ContractRepository;
 import com.contract.backend.common.repository.ContractVersionRepository;
 import com.contract.backend.common.repository.SignatureRepository;
-import com.fasterxml.jackson.databind.ObjectMapper; // ObjectMapper 임포트
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule; // JavaTimeModule 임포트
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets; // StandardCharsets 임포트
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException; // NoSuchAlgorithmException 임포트
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.contract.backend.common.repository.BlockchainRecordRepository;
-
 @Service
 public class SignatureService {
 
@@ -38,26 +38,37 @@ public class SignatureService {
     private final ContractVersionRepository contractVersionRepository;
     private final SignatureRepository signatureRepository;
     private final ContractPartyRepository contractPartyRepository;
-    private final BlockchainService blockchainService;
-    private final BlockchainRecordRepository blockchainRecordRepository;
-    private final ObjectMapper objectMapper; // JSON 직렬화용
+    private final ContractAnchoringService anchoringService;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserContractIndexService userContractIndexService;
+
+    @Value("${signature.batch.maxContracts:200}")
+    private int maxBatchContracts;
+
+    @Value("${signature.batch.insertChunkSize:100}")
+    private int insertChunkSize;
 
     public SignatureService(ContractRepository contractRepository,
                             ContractVersionRepository contractVersionRepository,
                             SignatureRepository signatureRepository,
                             ContractPartyRepository contractPartyRepository,
-                            BlockchainService blockchainService,
-                            BlockchainRecordRepository blockchainRecordRepository,
-                            ObjectMapper objectMapper // ObjectMapper 주입
+                            ContractAnchoringService anchoringService,
+                            EntityManager entityManager,
+                            JdbcTemplate jdbcTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            UserContractIndexService userContractIndexService
     ) {
         this.contractRepository = contractRepository;
         this.contractVersionRepository = contractVersionRepository;
         this.signatureRepository = signatureRepository;
         this.contractPartyRepository = contractPartyRepository;
-        this.blockchainService = blockchainService;
-        this.blockchainRecordRepository = blockchainRecordRepository;
-        this.objectMapper = objectMapper.copy(); // 원본 ObjectMapper의 설정을 복사하여 사용
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.anchoringService = anchoringService;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.userContractIndexService = userContractIndexService;
     }
 
     @Transactional
@@ -77,48 +88,38 @@ public class SignatureService {
             throw new CustomException(CustomExceptionEnum.VERSION_NOT_PENDING_SIGNATURE);
         }
 
-        contractPartyRepository.findByContractAndParty(contract, signer)
-                .orElseThrow(() -> new CustomException(CustomExceptionEnum.UNAUTHORIZED));
+        if (!contractPartyRepository.existsByContractAndParty(contract, signer)) {
+            throw new CustomException(CustomExceptionEnum.UNAUTHORIZED);
+        }
 
-        if (signatureRepository.findByContractVersionAndSigner(currentVersion, signer).isPresent()) {
-            throw new CustomException(CustomExceptionEnum.ALREADY_SIGNED);
+        // 카운터가 집계되지 않은 기존 버전은 첫 서명 시 한 번만 집계
+        if (currentVersion.getRequiredSignerCount() == 0) {
+            int required = (int) contractPartyRepository.countRequiredSigners(contract);
+            int collected = (int) signatureRepository.countByContractVersion(currentVersion);
+            contractVersionRepository.initializeSignerCounts(currentVersion.getId(), required, collected);
         }
 
+        // 버전 행 잠금을 먼저 잡고(카운터 증가) 서명을 넣으므로 동시 서명도 순서대로 반영되고, 완료 전환은 한 트랜잭션만 성공
+        // (일괄 서명과 같은 잠금 순서: 버전 행 → 서명 행)
+        if (contractVersionRepository.incrementCollectedSigners(currentVersion.getId()) == 0) {
+            throw new CustomException(CustomExceptionEnum.VERSION_NOT_PENDING_SIGNATURE);
+        }
+
+        // 중복 서명은 (contract_version_id, signer_id) 유니크 제약으로 판정 (롤백되며 카운터 증가도 취소됨)
         String signatureHashValue = generateSimpleSignatureHash(currentVersion.getFileHash(), signer.getUuid());
         SignatureEntity signature = new SignatureEntity(currentVersion, signer, signatureHashValue);
-        signatureRepository.save(signature);
-        logger.info("사용자 {}가 계약 ID {}의 버전 {}에 서명했습니다.", signer.getUuid(), contractId, currentVersion.getVersionNumber());
-
-        List<ContractPartyEntity> allPartiesInContract = contractPartyRepository.findByContract(contract);
-        List<UserEntity> requiredSigners = allPartiesInContract.stream()
-                .filter(party -> party.getRole() == PartyRole.INITIATOR || party.getRole() == PartyRole.COUNTERPARTY)
-                .map(ContractPartyEntity::getParty)
-                .collect(Collectors.toList());
-
-        List<SignatureEntity> signaturesForCurrentVersion = signatureRepository.findAllByContractVersion(currentVersion);
-        List<UserEntity> actualSigners = signaturesForCurrentVersion.stream()
-                .map(SignatureEntity::getSigner)
-                .collect(Collectors.toList());
-
-        boolean allRequiredHaveSigned = true;
-        if (requiredSigners.isEmpty() && !actualSigners.isEmpty()) {
-            allRequiredHaveSigned = false;
-        } else if (requiredSigners.isEmpty()) {
-            allRequiredHaveSigned = false; // 필수 서명자 없는 계약은 자동 완료 안됨
-        } else {
-            for (UserEntity requiredSigner : requiredSigners) {
-                if (actualSigners.stream().noneMatch(actual -> actual.getId().equals(requiredSigner.getId()))) {
-                    allRequiredHaveSigned = false;
-                    break;
-                }
-            }
+        try {
+            signatureRepository.saveAndFlush(signature);
+        } catch (DataIntegrityViolationException e) {
+            throw new CustomException(CustomExceptionEnum.ALREADY_SIGNED);
         }
+        logger.info("사용자 {}가 계약 ID {}의 버전 {}에 서명했습니다.", signer.getUuid(), contractId, currentVersion.getVersionNumber());
 
+        boolean allRequiredHaveSigned = contractVersionRepository.finalizeIfFullySigned(currentVersion.getId()) == 1;
+        entityManager.refresh(currentVersion); // JPQL 로 바뀐 카운터/상태/버전을 반영
 
         if (allRequiredHaveSigned) {
             logger.info("계약 ID {}의 버전 {}에 대한 모든 필수 서명이 완료되었습니다.", contract.getId(), currentVersion.getVersionNumber());
-            currentVersion.setStatus(VersionStatus.SIGNED);
-            contractVersionRepository.save(currentVersion);
 
             contract.setStatus(ContractStatus.CLOSED);
             contract.setUpdatedAt(LocalDateTime.now());
@@ -126,45 +127,228 @@ public class SignatureService {
             contractRepository.save(contract);
             logger.info("계약 ID {}의 상태가 CLOSED로, 버전 {}의 상태가 SIGNED로 변경되었습니다.", contract.getId(), currentVersion.getId());
 
-            // --- 블록체인 연동 로직 ---
-            LocalDateTime finalizedTimestamp = LocalDateTime.now(); // 최종 완료 시점 정의
-
-            List<BlockchainMetadataDTO.SignatureMetadataDTO> signatureMetadataDTOs = signaturesForCurrentVersion.stream()
-                    .map(sig -> new BlockchainMetadataDTO.SignatureMetadataDTO(
-                            sig.getSigner().getUuid(),
-                            sig.getSignatureHash(),
-                            sig.getSignedAt()))
-                    .collect(Collectors.toList());
-
-            BlockchainMetadataDTO metadataForBlockchain = new BlockchainMetadataDTO(
-                    currentVersion.getId(),
-                    currentVersion.getFileHash(),
-                    contract.getTitle(),
-                    contract.getCreatedBy().getUuid(),
-                    signatureMetadataDTOs,
-                    finalizedTimestamp // 정의된 최종 완료 시점 사용
-            );
-
-            String metadataJson = objectMapper.writeValueAsString(metadataForBlockchain);
-            String metadataHash = generateSHA256ForString(metadataJson.getBytes(StandardCharsets.UTF_8));
-
-            logger.info("블록체인에 메타데이터 기록을 시작합니다. 계약 버전 ID: {}, 메타데이터 해시: {}", currentVersion.getId(), metadataHash);
-            try {
-                String txHash = blockchainService.recordContractVersionMetadata(metadataForBlockchain);
-
-                BlockchainRecordEntity blockchainRecord = new BlockchainRecordEntity(currentVersion, metadataHash, txHash);
-                blockchainRecordRepository.save(blockchainRecord);
-                logger.info("계약 버전 ID {}의 메타데이터가 블록체인에 성공적으로 기록되었습니다. TxHash: {}", currentVersion.getId(), txHash);
-
-            } catch (Exception e) {
-                logger.error("계약 버전 ID {}의 블록체인 메타데이터 기록 중 오류 발생: {}", currentVersion.getId(), e.getMessage(), e);
-                // 전체 트랜잭션 롤백을 위해 RuntimeException 발생
-                throw new RuntimeException("블록체인 기록 실패로 인한 전체 롤백: " + e.getMessage(), e);
-            }
+            // 원장 기록은 이 트랜잭션이 커밋된 뒤 한 번만 수행 (원장 호출 중 행 잠금을 잡지 않음)
+            anchoringService.anchorAfterCommit(List.of(currentVersion.getId()));
         }
+        userContractIndexService.onSigned(signer.getId(), List.of(contractId),
+                allRequiredHaveSigned ? List.of(contractId) : List.of());
+        // 참여자 알림은 커밋 후 전달 (ContractEventRelay)
+        eventPublisher.publishEvent(new ContractChangedEvent(
+                allRequiredHaveSigned ? ContractEventType.CLOSED : ContractEventType.SIGNED,
+                contractId, currentVersion.getVersionNumber(), contract.getStatus(), signer.getUuid()));
         return signature;
     }
 
+    /**
+     * 여러 계약의 현재 버전에 한 번에 서명합니다. 계약별 결과를 요청 순서대로 돌려주며, 서명할 수 없는 계약은 건너뜁니다.
+     *
+     * 대상 버전 행을 ID 순으로 먼저 잠그고(단건 서명과 같은 잠금 순서) 참여 여부/기존 서명을 집합 조회로 확인한 뒤,
+     * 서명은 JDBC 배치로 넣고 카운터 증가와 완료 전환도 IN 조건 한 번씩으로 처리합니다.
+     * 완료된 버전들은 커밋 후 함께 원장 기록으로 넘깁니다.
+     */
+    @Transactional
+    public List<BatchSignResultDTO> signContracts(List<Long> contractIds, UserEntity signer) throws Exception {
+        if (contractIds == null || contractIds.isEmpty()) {
+            throw new CustomException(CustomExceptionEnum.INVALID_BATCH_SIGN_REQUEST);
+        }
+        Set<Long> targetIds = new LinkedHashSet<>();
+        for (Long contractId : contractIds) {
+            if (contractId != null) {
+                targetIds.add(contractId);
+            }
+        }
+        if (targetIds.isEmpty()) {
+            throw new CustomException(CustomExceptionEnum.INVALID_BATCH_SIGN_REQUEST);
+        }
+        if (targetIds.size() > maxBatchContracts) {
+            throw new CustomException(CustomExceptionEnum.BATCH_SIGN_LIMIT_EXCEEDED);
+        }
+
+        Map<Long, ContractVersionEntity> versionsByContractId = new HashMap<>();
+        for (ContractVersionEntity version : contractVersionRepository.lockCurrentVersionsByContractIdIn(targetIds)) {
+            versionsByContractId.put(version.getContract().getId(), version);
+        }
+        Set<Long> partyContractIds = versionsByContractId.isEmpty() ? Collections.emptySet()
+                : new HashSet<>(contractPartyRepository.findContractIdsByPartyAndContractIdIn(signer, versionsByContractId.keySet()));
+
+        Map<Long, BatchSignResultDTO> failures = new HashMap<>();
+        List<ContractVersionEntity> signable = new ArrayList<>();
+        for (Long contractId : targetIds) {
+            ContractVersionEntity version = versionsByContractId.get(contractId);
+            CustomExceptionEnum error = null;
+            if (version == null) {
+                error = CustomExceptionEnum.CONTRACT_NOT_FOUND;
+            } else if (!partyContractIds.contains(contractId)) {
+                error = CustomExceptionEnum.UNAUTHORIZED;
+            } else if (version.getContract().getStatus() != ContractStatus.OPEN) {
+                error = CustomExceptionEnum.CANNOT_SIGN_CONTRACT;
+            } else if (version.getStatus() != VersionStatus.PENDING_SIGNATURE) {
+                error = CustomExceptionEnum.VERSION_NOT_PENDING_SIGNATURE;
+            }
+            if (error != null) {
+                failures.put(contractId, failedResult(contractId, version, error));
+            } else {
+                signable.add(version);
+            }
+        }
+
+        if (!signable.isEmpty()) {
+            Set<Long> alreadySigned = new HashSet<>(signatureRepository.findSignedVersionIds(signer, versionIds(signable)));
+            signable.removeIf(version -> {
+                if (alreadySigned.contains(version.getId())) {
+                    Long contractId = version.getContract().getId();
+                    failures.put(contractId, failedResult(contractId, version, CustomExceptionEnum.ALREADY_SIGNED));
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        Set<Long> finalizedVersionIds = new HashSet<>();
+        if (!signable.isEmpty()) {
+            Map<Long, int[]> signerCounts = loadSignerCounts(signable);
+
+            insertSignatures(signable, signer);
+            List<Long> signableIds = versionIds(signable);
+            contractVersionRepository.incrementCollectedSignersIn(signableIds);
+
+            List<Long> completing = new ArrayList<>();
+            for (ContractVersionEntity version : signable) {
+                int[] counts = signerCounts.get(version.getId()); // {required, collected(이번 서명 전)}
+                if (counts[0] > 0 && counts[1] + 1 >= counts[0]) {
+                    completing.add(version.getId());
+                }
+            }
+            if (!completing.isEmpty()) {
+                // 완료 여부는 UPDATE 조건(카운터)으로 판정하고, 실제로 SIGNED 가 된 버전만 이후 처리에 사용
+                contractVersionRepository.finalizeIfFullySignedIn(completing);
+                finalizedVersionIds.addAll(contractVersionRepository.findSignedIdsIn(completing));
+                if (finalizedVersionIds.size() != completing.size()) {
+                    // 버전 행을 잠근 상태이므로 정상 경로에서는 발생하지 않음 (카운터 불일치)
+                    List<Long> notFinalized = new ArrayList<>(completing);
+                    notFinalized.removeAll(finalizedVersionIds);
+                    logger.error("일괄 서명 완료 전환 실패 - 예상 {}건, 실제 {}건, 전환되지 않은 버전: {}",
+                            completing.size(), finalizedVersionIds.size(), notFinalized);
+                }
+            }
+            if (!finalizedVersionIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                for (ContractVersionEntity version : signable) {
+                    if (finalizedVersionIds.contains(version.getId())) {
+                        ContractEntity contract = version.getContract();
+                        contract.setStatus(ContractStatus.CLOSED);
+                        contract.setUpdatedAt(now);
+                        contract.setUpdatedBy(signer);
+                    }
+                }
+                // 원장 기록은 이 트랜잭션이 커밋된 뒤 완료된 버전들을 함께 처리
+                anchoringService.anchorAfterCommit(finalizedVersionIds);
+            }
+            List<Long> signedContractIds = new ArrayList<>();
+            List<Long> closedContractIds = new ArrayList<>();
+            for (ContractVersionEntity version : signable) {
+                signedContractIds.add(version.getContract().getId());
+                if (finalizedVersionIds.contains(version.getId())) {
+                    closedContractIds.add(version.getContract().getId());
+                }
+            }
+            userContractIndexService.onSigned(signer.getId(), signedContractIds, closedContractIds);
+
+            for (ContractVersionEntity version : signable) {
+                boolean closed = finalizedVersionIds.contains(version.getId());
+                eventPublisher.publishEvent(new ContractChangedEvent(
+                        closed ? ContractEventType.CLOSED : ContractEventType.SIGNED,
+                        version.getContract().getId(), version.getVersionNumber(),
+                        closed ? ContractStatus.CLOSED : version.getContract().getStatus(), signer.getUuid()));
+            }
+            logger.info("사용자 {}가 계약 {}건에 일괄 서명했습니다. (서명 완료 {}건)", signer.getUuid(), signable.size(), finalizedVersionIds.size());
+        }
+
+        List<BatchSignResultDTO> results = new ArrayList<>(targetIds.size());
+        for (Long contractId : targetIds) {
+            BatchSignResultDTO failure = failures.get(contractId);
+            if (failure != null) {
+                results.add(failure);
+                continue;
+            }
+            ContractVersionEntity version = versionsByContractId.get(contractId);
+            results.add(BatchSignResultDTO.signed(contractId, version.getVersionNumber(), finalizedVersionIds.contains(version.getId())));
+        }
+        return results;
+    }
+
+    // 버전별 {필수 서명자 수, 현재 서명 수}. 집계 전인 기존 버전은 그룹 COUNT 로 한 번에 백필
+    private Map<Long, int[]> loadSignerCounts(List<ContractVersionEntity> versions) {
+        Map<Long, int[]> counts = new HashMap<>();
+        List<ContractVersionEntity> uninitialized = new ArrayList<>();
+        for (ContractVersionEntity version : versions) {
+            if (version.getRequiredSignerCount() == 0) {
+                uninitialized.add(version);
+            } else {
+                counts.put(version.getId(), new int[]{version.getRequiredSignerCount(), version.getCollectedSignerCount()});
+            }
+        }
+        if (uninitialized.isEmpty()) {
+            return counts;
+        }
+
+        Map<Long, Integer> requiredByContract = new HashMap<>();
+        List<Long> contractIds = new ArrayList<>();
+        for (ContractVersionEntity version : uninitialized) {
+            contractIds.add(version.getContract().getId());
+        }
+        for (Object[] row : contractPartyRepository.countRequiredSignersByContractIdIn(contractIds)) {
+            requiredByContract.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        Map<Long, Integer> collectedByVersion = new HashMap<>();
+        for (Object[] row : signatureRepository.countByContractVersionIdIn(versionIds(uninitialized))) {
+            collectedByVersion.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        for (ContractVersionEntity version : uninitialized) {
+            int required = requiredByContract.getOrDefault(version.getContract().getId(), 0);
+            int collected = collectedByVersion.getOrDefault(version.getId(), 0);
+            contractVersionRepository.initializeSignerCounts(version.getId(), required, collected);
+            counts.put(version.getId(), new int[]{required, collected});
+        }
+        return counts;
+    }
+
+    private void insertSignatures(List<ContractVersionEntity> versions, UserEntity signer) throws Exception {
+        Timestamp signedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(versions.size());
+        for (ContractVersionEntity version : versions) {
+            rows.add(new Object[]{
+                    version.getId(),
+                    signer.getId(),
+                    signedAt,
+                    generateSimpleSignatureHash(version.getFileHash(), signer.getUuid())
+            });
+        }
+        try {
+            for (int from = 0; from < rows.size(); from += insertChunkSize) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO signatures (contract_version_id, signer_id, signed_at, signature_hash) VALUES (?, ?, ?, ?)",
+                        rows.subList(from, Math.min(from + insertChunkSize, rows.size())));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 버전 행을 잠근 뒤 기존 서명을 확인했으므로 정상 경로에서는 발생하지 않음
+            throw new CustomException(CustomExceptionEnum.CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private static List<Long> versionIds(List<ContractVersionEntity> versions) {
+        List<Long> ids = new ArrayList<>(versions.size());
+        for (ContractVersionEntity version : versions) {
+            ids.add(version.getId());
+        }
+        return ids;
+    }
+
+    private static BatchSignResultDTO failedResult(Long contractId, ContractVersionEntity version, CustomExceptionEnum error) {
+        return BatchSignResultDTO.failed(contractId, version != null ? version.getVersionNumber() : null,
+                error.name(), error.getMessage());
+    }
+
     private String generateSimpleSignatureHash(String fileHash, String userUuid) throws Exception {
         String dataToHash = fileHash + ":" + userUuid + ":" + LocalDateTime.now().toString();
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -177,15 +361,4 @@ public class SignatureService {
         }
         return hexString.toString();
     }
-
-    // Helper method to generate SHA-256 hash for a string
-    private String generateSHA256ForString(byte[] data) throws NoSuchAlgorithmException {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(data);
-        StringBuilder sb = new StringBuilder();
-        for (byte b : hash) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,273 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.config.SimulatedLedgerProperties;
+import com.contract.backend.service.BlockchainConfirmationService.CommitEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실제 Fabric 네트워크 없이 서명/앵커링 파이프라인을 부하 테스트하기 위한 인프로세스 원장.
+ *
+ * simulated-ledger 프로파일에서 HyperledgerFabricService 대신 "blockchainService" 로 등록됩니다.
+ * 제출된 트랜잭션은 설정된 지연 후 블록 단위로 커밋되며, 커밋 결과는 Fabric 블록 이벤트와 같은 경로
+ * (BlockchainCommitTracker)로 전달되어 blockchain_records 의 확인 상태까지 동일하게 갱신됩니다.
+ */
+@Service("blockchainService")
+@Profile("simulated-ledger")
+public class SimulatedLedgerService implements BlockchainService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedLedgerService.class);
+    private static final String LEDGER_LOG_FILE = "ledger.log";
+    private static final long BLOCK_CUT_INTERVAL_MS = 100;
+
+    private final SimulatedLedgerProperties properties;
+    private final BlockchainCommitTracker commitTracker;
+    private final Random random;
+
+    private final Map<String, byte[]> worldState = new ConcurrentHashMap<>();
+    // 제출되었지만 아직 커밋되지 않은 키 (중복 생성 방지)
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+    private final PriorityQueue<PendingTransaction> pendingCommits =
+            new PriorityQueue<>(Comparator.comparingLong(tx -> tx.dueAt));
+    private final AtomicLong blockHeight = new AtomicLong(0);
+    private final Object rateLock = new Object();
+    private long nextSubmitSlotNanos;
+
+    private Semaphore inFlight;
+    private Path ledgerLog;
+    private ScheduledExecutorService blockCutter;
+
+    public SimulatedLedgerService(SimulatedLedgerProperties properties,
+                                  BlockchainCommitTracker commitTracker) {
+        this.properties = properties;
+        this.commitTracker = commitTracker;
+        this.random = properties.getRandomSeed() != 0 ? new Random(properties.getRandomSeed()) : new Random();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (properties.getMaxInFlight() > 0) {
+            inFlight = new Semaphore(properties.getMaxInFlight(), true);
+        }
+        if (properties.getDataDir() != null && !properties.getDataDir().isBlank()) {
+            Path dataDir = Paths.get(properties.getDataDir());
+            Files.createDirectories(dataDir);
+            ledgerLog = dataDir.resolve(LEDGER_LOG_FILE);
+            restoreFromLog();
+        }
+
+        blockCutter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulated-ledger-block-cutter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        blockCutter.scheduleWithFixedDelay(this::cutBlocks, BLOCK_CUT_INTERVAL_MS, BLOCK_CUT_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        logger.info("Simulated ledger started - height: {}, records: {}, persistent: {}",
+                blockHeight.get(), worldState.size(), ledgerLog != null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCommitTracking() {
+        commitTracker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (blockCutter != null) {
+            blockCutter.shutdownNow();
+        }
+    }
+
+    @Override
+    @CircuitBreaker(name = "fabric")
+    @Bulkhead(name = "fabric")
+    public String recordContractVersionMetadata(Long contractVersionId, byte[] canonicalMetadata) throws Exception {
+        String recordId = "CONTRACT_VERSION_" + contractVersionId;
+        byte[] value = canonicalMetadata.clone();
+
+        acquireThroughputSlot();
+        if (inFlight != null) {
+            inFlight.acquire();
+        }
+        try {
+            simulateLatency(properties.getEndorseLatencyMs());
+            if (shouldFail(properties.getEndorseFailureRate())) {
+                throw new RuntimeException("Fabric transaction failed: simulated endorsement failure for " + recordId);
+            }
+            if (worldState.containsKey(recordId) || !inFlightKeys.add(recordId)) {
+                throw new LedgerRejectedException("Fabric transaction failed: the asset " + recordId + " already exists");
+            }
+
+            String transactionId = newTransactionId();
+            long dueAt = System.currentTimeMillis() + properties.getCommitLatencyMs() + jitter();
+            synchronized (pendingCommits) {
+                pendingCommits.add(new PendingTransaction(transactionId, recordId, value, dueAt));
+            }
+            logger.debug("Simulated transaction submitted - key: {}, txId: {}", recordId, transactionId);
+            return transactionId;
+        } finally {
+            if (inFlight != null) {
+                inFlight.release();
+            }
+        }
+    }
+
+    @Override
+    @CircuitBreaker(name = "fabric")
+    @Bulkhead(name = "fabric")
+    public byte[] getContractMetadataBytesFromBlockchain(Long contractVersionDbId) throws Exception {
+        String recordKey = "CONTRACT_VERSION_" + contractVersionDbId;
+        simulateLatency(properties.getEvaluateLatencyMs());
+        if (shouldFail(properties.getEvaluateFailureRate())) {
+            throw new RuntimeException("Fabric gateway error: simulated evaluate failure for " + recordKey);
+        }
+
+        byte[] resultBytes = worldState.get(recordKey);
+        if (resultBytes == null) {
+            logger.warn("No metadata found on simulated ledger for key: {}", recordKey);
+            return null;
+        }
+        return resultBytes.clone();
+    }
+
+    // 커밋 시점이 된 트랜잭션을 최대 maxBlockSize 개씩 블록으로 묶어 커밋
+    private void cutBlocks() {
+        try {
+            long now = System.currentTimeMillis();
+            while (true) {
+                List<PendingTransaction> block = new ArrayList<>();
+                synchronized (pendingCommits) {
+                    while (!pendingCommits.isEmpty()
+                            && pendingCommits.peek().dueAt <= now
+                            && block.size() < properties.getMaxBlockSize()) {
+                        block.add(pendingCommits.poll());
+                    }
+                }
+                if (block.isEmpty()) {
+                    return;
+                }
+                commitBlock(blockHeight.getAndIncrement(), block);
+            }
+        } catch (Exception e) {
+            logger.error("Simulated ledger block commit failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void commitBlock(long blockNumber, List<PendingTransaction> block) throws IOException {
+        List<CommitEvent> commits = new ArrayList<>(block.size());
+        StringBuilder logLines = new StringBuilder();
+        for (PendingTransaction tx : block) {
+            boolean valid = !shouldFail(properties.getCommitFailureRate());
+            if (valid) {
+                worldState.put(tx.key, tx.value);
+                logLines.append(blockNumber).append('\t')
+                        .append(tx.transactionId).append('\t')
+                        .append(tx.key).append('\t')
+                        .append(Base64.getEncoder().encodeToString(tx.value)).append('\n');
+            }
+            inFlightKeys.remove(tx.key);
+            commits.add(new CommitEvent(tx.transactionId, blockNumber, valid));
+        }
+        if (ledgerLog != null && logLines.length() > 0) {
+            Files.writeString(ledgerLog, logLines, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        commitTracker.onBlock(blockNumber, commits);
+    }
+
+    private void restoreFromLog() throws IOException {
+        if (!Files.exists(ledgerLog)) {
+            return;
+        }
+        long maxBlock = -1;
+        try (BufferedReader reader = Files.newBufferedReader(ledgerLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t");
+                if (parts.length != 4) {
+                    continue;
+                }
+                maxBlock = Math.max(maxBlock, Long.parseLong(parts[0]));
+                worldState.put(parts[2], Base64.getDecoder().decode(parts[3]));
+            }
+        }
+        blockHeight.set(maxBlock + 1);
+    }
+
+    private void acquireThroughputSlot() throws InterruptedException {
+        int maxTps = properties.getMaxTransactionsPerSecond();
+        if (maxTps <= 0) {
+            return;
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / maxTps;
+        long slot;
+        synchronized (rateLock) {
+            slot = Math.max(System.nanoTime(), nextSubmitSlotNanos);
+            nextSubmitSlotNanos = slot + intervalNanos;
+        }
+        long waitNanos = slot - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private void simulateLatency(long baseMillis) throws InterruptedException {
+        long delay = baseMillis + jitter();
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private long jitter() {
+        long maxJitter = properties.getLatencyJitterMs();
+        return maxJitter > 0 ? (long) (random.nextDouble() * maxJitter) : 0;
+    }
+
+    private boolean shouldFail(double rate) {
+        return rate > 0 && random.nextDouble() < rate;
+    }
+
+    // Fabric 트랜잭션 ID와 같은 64자리 16진수
+    private String newTransactionId() {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static class PendingTransaction {
+        final String transactionId;
+        final String key;
+        final byte[] value;
+        final long dueAt;
+
+        PendingTransaction(String transactionId, String key, byte[] value, long dueAt) {
+            this.transactionId = transactionId;
+            this.key = key;
+            this.value = value;
+            this.dueAt = dueAt;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractPartyEntity;
+import com.contract.backend.common.Entity.UserContractIndexEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.dto.ContractListDTO;
+import com.contract.backend.common.repository.UserContractIndexRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * user_contract_index 유지. 모든 갱신은 호출한 서비스의 트랜잭션 안에서 실행되므로 계약 변경과 함께 커밋/롤백됩니다.
+ *
+ * 기동 시 인덱스 행이 없는 기존 계약(테이블 도입 전 데이터)을 채웁니다.
+ * 여러 노드가 동시에 채우다 유니크 제약에 걸리면 해당 노드는 중단하고 로그만 남깁니다. (다른 노드가 채운 것)
+ */
+@Service
+public class UserContractIndexService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserContractIndexService.class);
+
+    private final UserContractIndexRepository indexRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${contract.index.backfillOnStartup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${contract.index.backfillChunkSize:500}")
+    private int backfillChunkSize;
+
+    public UserContractIndexService(UserContractIndexRepository indexRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    EntityManager entityManager) {
+        this.indexRepository = indexRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 새 계약 또는 참여자 추가 (참여자는 모두 서명 대상이므로 현재 버전이 서명 대기면 대기 상태로 시작)
+    public void addParties(ContractEntity contract, List<ContractPartyEntity> parties) {
+        boolean awaiting = contract.getCurrentVersion() != null
+                && contract.getCurrentVersion().getStatus() == VersionStatus.PENDING_SIGNATURE;
+        indexRepository.saveAll(parties.stream()
+                .map(party -> new UserContractIndexEntity(party.getParty(), contract, party.getRole(),
+                        contract.getStatus(), contract.getCreatedAt(), awaiting))
+                .toList());
+    }
+
+    public void onVersionCreated(Long contractId) {
+        indexRepository.markAllAwaiting(contractId, LocalDateTime.now());
+    }
+
+    public void onSigned(Long signerId, Collection<Long> contractIds, Collection<Long> closedContractIds) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!contractIds.isEmpty()) {
+            indexRepository.markSigned(signerId, contractIds, now);
+        }
+        if (!closedContractIds.isEmpty()) {
+            indexRepository.markClosed(closedContractIds, now);
+        }
+    }
+
+    public void onContractDeleted(Long contractId) {
+        indexRepository.deleteByContractId(contractId);
+    }
+
+    public List<ContractListDTO> findPageAfter(Long userId, ContractStatus status, boolean awaitingOnly,
+                                               LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        return indexRepository.findPageAfter(userId, status, awaitingOnly, cursorCreatedAt, cursorId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!backfillOnStartup) {
+            return;
+        }
+        try {
+            int inserted = backfill(indexRepository::findMissingPartyRows) + backfill(indexRepository::findMissingCreatorRows);
+            if (inserted > 0) {
+                logger.info("Backfilled {} user contract index rows", inserted);
+            }
+        } catch (Exception e) {
+            logger.error("User contract index backfill failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // 누락 행을 backfillChunkSize 씩 읽어 배치 INSERT (저장된 행은 다음 조회에서 빠지므로 빈 결과가 나올 때까지 반복)
+    private int backfill(IntFunction<List<Object[]>> missingRows) {
+        int total = 0;
+        while (true) {
+            Integer inserted = transactionTemplate.execute(status -> {
+                List<Object[]> rows = missingRows.apply(backfillChunkSize);
+                indexRepository.saveAll(rows.stream().map(this::toIndexRow).toList());
+                return rows.size();
+            });
+            if (inserted == null || inserted == 0) {
+                return total;
+            }
+            total += inserted;
+        }
+    }
+
+    private UserContractIndexEntity toIndexRow(Object[] row) {
+        Object awaiting = row[5];
+        return new UserContractIndexEntity(
+                entityManager.getReference(UserEntity.class, ((Number) row[0]).longValue()),
+                entityManager.getReference(ContractEntity.class, ((Number) row[1]).longValue()),
+                PartyRole.valueOf((String) row[2]),
+                ContractStatus.valueOf((String) row[3]),
+                row[4] instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) row[4],
+                awaiting instanceof Boolean bool ? bool : ((Number) awaiting).intValue() != 0);
+    }
+}
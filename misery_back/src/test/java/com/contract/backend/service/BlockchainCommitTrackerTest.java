@@ -0,0 +1,169 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainRecordEntity;
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.service.BlockchainConfirmationService.CommitEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 블록 이벤트가 순서와 다르게 들어오거나 DB 기록보다 먼저 들어와도 확인 상태와 체크포인트가 맞게 유지되는지 확인합니다. (H2)
+ * 주기적 flush 는 꺼 두고 flush() 를 테스트 스레드에서 직접 호출하므로 DB 작업은 테스트 트랜잭션 안에서 수행됩니다.
+ */
+@DataJpaTest
+@Import({BlockchainCommitTracker.class, BlockchainConfirmationService.class})
+@TestPropertySource(properties = {
+        "fabric.events.flushIntervalMs=3600000",
+        "fabric.events.batchSize=10000",
+        "fabric.events.matchGraceSeconds=60"
+})
+class BlockchainCommitTrackerTest {
+
+    @Autowired
+    private BlockchainCommitTracker tracker;
+
+    @Autowired
+    private BlockchainConfirmationService confirmationService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ContractVersionEntity version;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity owner = em.persist(new UserEntity("tracker-owner", "tracker-owner@example.com", "password"));
+        ContractEntity contract = em.persist(new ContractEntity("title", "description", owner, ContractStatus.CLOSED));
+        version = em.persist(new ContractVersionEntity(contract, 1, "path/1", "hash-1", VersionStatus.SIGNED));
+        // 컨텍스트가 테스트 간에 공유되므로 이전 테스트의 처리 상태를 버리고 (롤백된) 체크포인트부터 시작
+        tracker.pause();
+        tracker.start();
+    }
+
+    @AfterEach
+    void resetTracker() {
+        tracker.pause();
+    }
+
+    @Test
+    void commitSeenBeforeItsRecordIsConfirmedLaterAndHoldsCheckpoint() {
+        record("tx-a");
+        em.flush();
+
+        // 블록 4 가 3 보다 먼저 도착, tx-b 는 아직 DB 에 기록되지 않음
+        tracker.onBlock(4, List.of(new CommitEvent("tx-a", 4, true)));
+        tracker.onBlock(3, List.of(new CommitEvent("tx-b", 3, true)));
+        assertEquals(5, tracker.nextBlock());
+
+        tracker.flush();
+        reload();
+        assertEquals(AnchorStatus.CONFIRMED, statusOf("tx-a"));
+        assertEquals(4L, blockOf("tx-a"));
+        assertEquals(3, checkpoint()); // 재시도 중인 블록 3 보다 앞서지 않음
+
+        record("tx-b");
+        em.flush();
+        tracker.flush();
+        reload();
+        assertEquals(AnchorStatus.CONFIRMED, statusOf("tx-b"));
+        assertEquals(3L, blockOf("tx-b"));
+        assertEquals(5, checkpoint());
+    }
+
+    @Test
+    void invalidCommitIsRecordedAsInvalid() {
+        record("tx-invalid");
+        em.flush();
+
+        tracker.onBlock(9, List.of(new CommitEvent("tx-invalid", 9, false)));
+        tracker.flush();
+        reload();
+
+        assertEquals(AnchorStatus.INVALID, statusOf("tx-invalid"));
+        assertEquals(10, checkpoint());
+    }
+
+    @Test
+    void expiredDeferredCommitStopsHoldingCheckpoint() throws Exception {
+        tracker.onBlock(7, List.of(new CommitEvent("tx-foreign", 7, true)));
+        tracker.flush();
+        assertEquals(7, checkpoint());
+
+        ReflectionTestUtils.setField(tracker, "matchGraceSeconds", 0L);
+        try {
+            Thread.sleep(5);
+            tracker.flush();
+        } finally {
+            ReflectionTestUtils.setField(tracker, "matchGraceSeconds", 60L);
+        }
+        assertEquals(8, checkpoint());
+
+        // 유예가 지나 버린 트랜잭션은 더 이상 재시도하지 않음 (PENDING 은 앵커링 재시도가 원장에서 직접 확인)
+        record("tx-foreign");
+        em.flush();
+        tracker.flush();
+        reload();
+        assertEquals(AnchorStatus.PENDING, statusOf("tx-foreign"));
+        assertNull(blockOf("tx-foreign"));
+    }
+
+    @Test
+    void restartResumesFromSavedCheckpoint() {
+        tracker.onBlock(41, List.of(new CommitEvent("tx-unrelated", 41, true)));
+        tracker.onBlock(42, List.of());
+        tracker.flush();
+        assertEquals(41, checkpoint()); // tx-unrelated 가 유예 중
+
+        // 재시작(또는 다른 노드의 인수): 메모리 상태는 버리고 저장된 체크포인트부터 다시 읽음
+        tracker.pause();
+        tracker.onBlock(50, List.of(new CommitEvent("tx-ignored", 50, true))); // 시작 전 수신분은 무시
+        assertEquals(41, tracker.start());
+        assertEquals(41, tracker.nextBlock());
+    }
+
+    // 일괄 UPDATE 결과를 읽기 위해 영속성 컨텍스트를 비움 (저장한 체크포인트는 먼저 반영)
+    private void reload() {
+        em.flush();
+        em.clear();
+    }
+
+    private void record(String txHash) {
+        em.persist(new BlockchainRecordEntity(version, "metadata-" + txHash, txHash));
+    }
+
+    private BlockchainRecordEntity find(String txHash) {
+        return em.getEntityManager()
+                .createQuery("SELECT r FROM BlockchainRecordEntity r WHERE r.txHash = :txHash", BlockchainRecordEntity.class)
+                .setParameter("txHash", txHash)
+                .getSingleResult();
+    }
+
+    private AnchorStatus statusOf(String txHash) {
+        return find(txHash).getAnchorStatus();
+    }
+
+    private Long blockOf(String txHash) {
+        return find(txHash).getBlockNumber();
+    }
+
+    private long checkpoint() {
+        return confirmationService.loadCheckpoint(BlockchainCommitTracker.CHECKPOINT_NAME).orElse(-1);
+    }
+}
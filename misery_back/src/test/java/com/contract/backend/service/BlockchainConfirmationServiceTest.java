@@ -0,0 +1,91 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.BlockchainRecordEntity;
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractVersionEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.AnchorStatus;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.service.BlockchainConfirmationService.CommitEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 커밋 이벤트를 blockchain_records 와 매칭하여 블록 번호/유효 여부별로 반영하는지 확인합니다. (H2)
+ */
+@DataJpaTest
+@Import(BlockchainConfirmationService.class)
+class BlockchainConfirmationServiceTest {
+
+    @Autowired
+    private BlockchainConfirmationService confirmationService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private ContractVersionEntity version;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity owner = em.persist(new UserEntity("confirm-owner", "confirm-owner@example.com", "password"));
+        ContractEntity contract = em.persist(new ContractEntity("title", "description", owner, ContractStatus.CLOSED));
+        version = em.persist(new ContractVersionEntity(contract, 1, "path/1", "hash-1", VersionStatus.SIGNED));
+    }
+
+    @Test
+    void confirmMatchesOnlyKnownTransactionsAndKeepsFirstResult() {
+        record("tx-valid");
+        record("tx-invalid");
+        em.flush();
+
+        // 같은 트랜잭션이 다른 블록으로 다시 들어와도 (재구독 등) 처음 확인된 결과를 유지
+        Set<String> matched = confirmationService.confirm(List.of(
+                new CommitEvent("tx-valid", 10, true),
+                new CommitEvent("tx-invalid", 11, false),
+                new CommitEvent("tx-other-app", 11, true)));
+        Set<String> replayed = confirmationService.confirm(List.of(new CommitEvent("tx-valid", 12, true)));
+        em.clear();
+
+        assertEquals(Set.of("tx-valid", "tx-invalid"), matched);
+        assertEquals(Set.of("tx-valid"), replayed); // 이미 확인된 기록도 매칭된 것으로 보아 재시도하지 않음
+        BlockchainRecordEntity valid = find("tx-valid");
+        assertEquals(AnchorStatus.CONFIRMED, valid.getAnchorStatus());
+        assertEquals(10L, valid.getBlockNumber());
+        assertEquals(AnchorStatus.INVALID, find("tx-invalid").getAnchorStatus());
+        assertEquals(11L, find("tx-invalid").getBlockNumber());
+    }
+
+    @Test
+    void checkpointIsCreatedThenUpdated() {
+        assertTrue(confirmationService.loadCheckpoint("test-job").isEmpty());
+
+        confirmationService.saveCheckpoint("test-job", 5);
+        confirmationService.saveCheckpoint("test-job", 9);
+        em.flush();
+        em.clear();
+
+        assertEquals(9, confirmationService.loadCheckpoint("test-job").getAsLong());
+    }
+
+    private void record(String txHash) {
+        em.persist(new BlockchainRecordEntity(version, "metadata-" + txHash, txHash));
+    }
+
+    private BlockchainRecordEntity find(String txHash) {
+        return em.getEntityManager()
+                .createQuery("SELECT r FROM BlockchainRecordEntity r WHERE r.txHash = :txHash", BlockchainRecordEntity.class)
+                .setParameter("txHash", txHash)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,145 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.UserContractIndexEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.dto.ContractCursorPageDTO;
+import com.contract.backend.common.dto.ContractListDTO;
+import com.contract.backend.common.exception.CustomException;
+import com.contract.backend.common.util.ledger.BlockchainMetadataCodec;
+import com.contract.backend.common.util.ledger.IntegrityProofSigner;
+import com.contract.backend.common.util.ledger.IntegrityProofVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 내 계약 키셋 페이지: 첫 페이지 커서(FIRST_PAGE_CREATED_AT)와 created_at 이 같은 계약이 페이지 경계에 걸친 경우를 확인합니다. (H2)
+ */
+@DataJpaTest(properties = "contract.index.backfillOnStartup=false")
+@Import({ContractService.class, UserContractIndexService.class})
+class ContractCursorPageTest {
+
+    private static final LocalDateTime OLDER = LocalDateTime.of(2024, 1, 1, 9, 0);
+    private static final LocalDateTime TIED = LocalDateTime.of(2024, 1, 2, 9, 0);
+    private static final LocalDateTime NEWER = LocalDateTime.of(2024, 1, 3, 9, 0);
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockitoBean
+    private S3StorageService s3StorageService;
+
+    @MockitoBean(name = "blockchainService")
+    private BlockchainService blockchainService;
+
+    @MockitoBean
+    private BlockchainMetadataCodec metadataCodec;
+
+    @MockitoBean
+    private IntegrityProofVerifier proofVerifier;
+
+    @MockitoBean
+    private IntegrityProofSigner proofSigner;
+
+    @MockitoBean
+    private ContractResponseCache responseCache;
+
+    @MockitoBean
+    private ContractAccessCache accessCache;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        when(responseCache.getList(anyString(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+        user = em.persist(new UserEntity("cursor-user", "cursor-user@example.com", "password"));
+    }
+
+    @Test
+    void pagesWalkTiedCreatedAtInIdOrderWithoutGapsOrDuplicates() {
+        Long older = index("older", OLDER);
+        Long tied1 = index("tied-1", TIED);
+        Long tied2 = index("tied-2", TIED);
+        Long tied3 = index("tied-3", TIED);
+        Long newer = index("newer", NEWER);
+        em.flush();
+        em.clear();
+
+        // 같은 created_at 의 세 계약이 첫 페이지와 두 번째 페이지에 나뉨
+        ContractCursorPageDTO first = page(null);
+        ContractCursorPageDTO second = page(first.getNextCursor());
+        ContractCursorPageDTO third = page(second.getNextCursor());
+
+        assertEquals(List.of(newer, tied3), ids(first));
+        assertEquals(List.of(tied2, tied1), ids(second));
+        assertEquals(List.of(older), ids(third));
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void firstPageIncludesRowsAtTheSentinelTimestamp() {
+        // 첫 페이지 커서(9999-12-31T23:59:59, Long.MAX_VALUE)와 created_at 이 같은 행도 첫 페이지에 포함
+        Long farFuture = index("far-future", LocalDateTime.of(9999, 12, 31, 23, 59, 59));
+        Long newer = index("newer", NEWER);
+        em.flush();
+        em.clear();
+
+        ContractCursorPageDTO first = page(null);
+
+        assertEquals(List.of(farFuture, newer), ids(first));
+        assertNull(first.getNextCursor());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-02T09:00|not-an-id".getBytes(StandardCharsets.UTF_8));
+
+        CustomException error = assertThrows(CustomException.class, () -> page(cursor));
+        assertEquals(HttpStatus.BAD_REQUEST, error.getStatus());
+    }
+
+    private Long index(String title, LocalDateTime createdAt) {
+        ContractEntity contract = em.persist(new ContractEntity(title, "description", user, ContractStatus.OPEN));
+        em.persist(new UserContractIndexEntity(user, contract, PartyRole.INITIATOR, ContractStatus.OPEN, createdAt, false));
+        return contract.getId();
+    }
+
+    private ContractCursorPageDTO page(String cursor) {
+        return contractService.getContractsForUserAfter(user.getUuid(), cursor, 2, null, false);
+    }
+
+    private static List<Long> ids(ContractCursorPageDTO page) {
+        List<Long> ids = new ArrayList<>();
+        for (ContractListDTO contract : page.getContracts()) {
+            ids.add(contract.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,127 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.*;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import com.contract.backend.common.dto.ContractDetailDTO;
+import com.contract.backend.common.util.ledger.BlockchainMetadataCodec;
+import com.contract.backend.common.util.ledger.IntegrityProofSigner;
+import com.contract.backend.common.util.ledger.IntegrityProofVerifier;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계약 상세 조회의 쿼리 수가 버전/서명 이력 길이와 무관하게 고정되어 있는지 확인합니다. (H2, Hibernate 통계)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ContractService.class)
+class ContractDetailQueryCountTest {
+
+    // 계약 → 참여자 → 버전 → 서명
+    private static final long EXPECTED_QUERIES = 4;
+
+    @Autowired
+    private ContractService contractService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private S3StorageService s3StorageService;
+
+    @MockitoBean(name = "blockchainService")
+    private BlockchainService blockchainService;
+
+    @MockitoBean
+    private BlockchainMetadataCodec metadataCodec;
+
+    @MockitoBean
+    private IntegrityProofVerifier proofVerifier;
+
+    @MockitoBean
+    private IntegrityProofSigner proofSigner;
+
+    @MockitoBean
+    private UserContractIndexService userContractIndexService;
+
+    @MockitoBean
+    private ContractResponseCache responseCache;
+
+    @MockitoBean
+    private ContractAccessCache accessCache;
+
+    @BeforeEach
+    void bypassResponseCache() {
+        when(responseCache.getDetail(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Test
+    void detailQueryCountDoesNotGrowWithHistory() {
+        long singleVersion = countDetailQueries(1, 2);
+        long longHistory = countDetailQueries(30, 5);
+
+        assertEquals(EXPECTED_QUERIES, singleVersion);
+        assertEquals(EXPECTED_QUERIES, longHistory);
+    }
+
+    private long countDetailQueries(int versionCount, int signerCount) {
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < signerCount; i++) {
+            String name = "user-" + versionCount + "-" + i;
+            users.add(em.persist(new UserEntity(name, name + "@example.com", "password")));
+        }
+        UserEntity creator = users.get(0);
+
+        ContractEntity contract = em.persist(new ContractEntity("title", "description", creator, ContractStatus.OPEN));
+        for (int i = 0; i < users.size(); i++) {
+            em.persist(new ContractPartyEntity(contract, users.get(i), i == 0 ? PartyRole.INITIATOR : PartyRole.COUNTERPARTY));
+        }
+
+        ContractVersionEntity current = null;
+        for (int v = 1; v <= versionCount; v++) {
+            VersionStatus status = v == versionCount ? VersionStatus.PENDING_SIGNATURE : VersionStatus.ARCHIVED;
+            current = em.persist(new ContractVersionEntity(contract, v, "path/" + v, "hash-" + v, status));
+            for (UserEntity signer : users) {
+                em.persist(new SignatureEntity(current, signer, "sig-" + v + "-" + signer.getUserName()));
+            }
+        }
+        contract.setCurrentVersion(current);
+        contract.setUpdatedBy(users.get(users.size() - 1));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ContractDetailDTO detail = contractService.getContractDetails(contract.getId(), creator.getUuid());
+
+        long queries = statistics.getPrepareStatementCount();
+        assertEquals(versionCount, detail.getVersionHistory().size());
+        assertEquals(signerCount, detail.getParticipants().size());
+        assertEquals(signerCount, detail.getCurrentVersion().getSignatures().size());
+        assertEquals(versionCount, detail.getCurrentVersion().getVersionNumber());
+        return queries;
+    }
+}
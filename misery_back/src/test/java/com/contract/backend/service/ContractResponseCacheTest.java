@@ -0,0 +1,151 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.ContractPartyEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.event.ContractChangedEvent;
+import com.contract.backend.common.event.ContractEventType;
+import com.contract.backend.service.ContractResponseCache.CachedDetail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * 계약 변경이 커밋되면 Redis 스탬프가 올라가 캐시된 상세/목록 응답을 다시 읽는지 확인합니다. (H2)
+ * 스탬프는 Redis 스크립트 대신 메모리 맵으로 흉내 내며, 커밋 이후 동작을 보기 위해 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({ContractResponseCache.class, ContractEventRelay.class, SimpleMeterRegistry.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContractResponseCacheTest {
+
+    @Autowired
+    private ContractResponseCache responseCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockitoBean
+    private ContractAccessCache accessCache;
+
+    private final Map<String, Long> stamps = new ConcurrentHashMap<>();
+    private TransactionTemplate tx;
+    private Long contractId;
+    private String memberUuid;
+
+    @BeforeEach
+    void setUp() {
+        // READ_STAMP: 없으면 초기값으로 만들고 읽음, BUMP_STAMP(INCR 포함): 있으면 1 증가
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenAnswer(invocation -> {
+            RedisScript<?> script = invocation.getArgument(0);
+            String key = invocation.<List<String>>getArgument(1).get(0);
+            long initial = Long.parseLong(invocation.getArgument(2));
+            if (script.getScriptAsString().contains("INCR")) {
+                return stamps.merge(key, initial, (current, ignored) -> current + 1);
+            }
+            return stamps.computeIfAbsent(key, k -> initial);
+        });
+
+        tx = new TransactionTemplate(transactionManager);
+        String name = "cache-" + UUID.randomUUID();
+        ContractEntity contract = tx.execute(status -> {
+            UserEntity member = em.persist(new UserEntity(name, name + "@example.com", "password"));
+            ContractEntity created = em.persist(new ContractEntity("title", "description", member, ContractStatus.OPEN));
+            em.persist(new ContractPartyEntity(created, member, PartyRole.INITIATOR));
+            return created;
+        });
+        contractId = contract.getId();
+        memberUuid = contract.getCreatedBy().getUuid();
+    }
+
+    @Test
+    void committedChangeBumpsStampsAndReloadsDetailAndList() {
+        AtomicInteger detailLoads = new AtomicInteger();
+        AtomicInteger listLoads = new AtomicInteger();
+        readDetail(detailLoads);
+        readDetail(detailLoads);
+        readList(listLoads);
+        readList(listLoads);
+        assertEquals(1, detailLoads.get());
+        assertEquals(1, listLoads.get());
+
+        tx.executeWithoutResult(status -> {
+            publishSigned();
+            readDetail(detailLoads); // 커밋 전에는 스탬프가 그대로이므로 캐시된 응답
+        });
+        assertEquals(1, detailLoads.get());
+
+        readDetail(detailLoads);
+        readList(listLoads);
+        assertEquals(2, detailLoads.get());
+        assertEquals(2, listLoads.get());
+    }
+
+    @Test
+    void rolledBackChangeKeepsCachedResponses() {
+        AtomicInteger detailLoads = new AtomicInteger();
+        readDetail(detailLoads);
+
+        tx.executeWithoutResult(status -> {
+            publishSigned();
+            status.setRollbackOnly();
+        });
+        readDetail(detailLoads);
+
+        assertEquals(1, detailLoads.get());
+    }
+
+    private void publishSigned() {
+        eventPublisher.publishEvent(new ContractChangedEvent(
+                ContractEventType.SIGNED, contractId, 1, ContractStatus.OPEN, memberUuid));
+    }
+
+    private void readDetail(AtomicInteger loads) {
+        responseCache.getDetail(contractId, () -> {
+            loads.incrementAndGet();
+            return new CachedDetail(null, Set.of(memberUuid));
+        });
+    }
+
+    private void readList(AtomicInteger loads) {
+        responseCache.getList(memberUuid, "page=0", loads::incrementAndGet);
+    }
+}
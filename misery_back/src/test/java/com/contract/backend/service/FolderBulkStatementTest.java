@@ -0,0 +1,128 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.FolderContractEntity;
+import com.contract.backend.common.Entity.FolderEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.dto.FolderUpdateRequestDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 폴더 경로 변경과 하위 폴더 삭제가 일괄 문장으로 정확한 범위만 바꾸는지 확인합니다. (H2)
+ * LIKE 특수문자(%, _)와 이스케이프 문자(!)가 이름에 들어가도 다른 폴더가 함께 바뀌지 않아야 합니다.
+ */
+@DataJpaTest
+@Import(FolderService.class)
+class FolderBulkStatementTest {
+
+    @Autowired
+    private FolderService folderService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private UserEntity owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = em.persist(new UserEntity("owner", "owner@example.com", "password"));
+    }
+
+    @Test
+    void renameRewritesOnlyDescendantPaths() {
+        FolderEntity target = folder("a%_!", null);
+        FolderEntity child = folder("계약_1", target);
+        FolderEntity grandChild = folder("100%!", child);
+        // 이스케이프하지 않은 LIKE '/a%_!/%' 라면 함께 바뀌었을 폴더
+        FolderEntity lookAlike = folder("aXY!", null);
+        FolderEntity lookAlikeChild = folder("k", lookAlike);
+        em.flush();
+
+        folderService.updateFolder(target.getId(), new FolderUpdateRequestDTO("새_폴더!%", null), owner.getUuid());
+        em.flush();
+        em.clear();
+
+        assertEquals("/새_폴더!%", pathOf(target));
+        assertEquals("/새_폴더!%/계약_1", pathOf(child));
+        assertEquals("/새_폴더!%/계약_1/100%!", pathOf(grandChild));
+        assertEquals("/aXY!", pathOf(lookAlike));
+        assertEquals("/aXY!/k", pathOf(lookAlikeChild));
+    }
+
+    @Test
+    void moveRewritesDescendantPathsUnderNewParent() {
+        FolderEntity source = folder("_src", null);
+        FolderEntity child = folder("c!d", source);
+        FolderEntity destination = folder("dest%", null);
+        // 이스케이프하지 않은 LIKE '/_src/%' 라면 함께 바뀌었을 폴더
+        FolderEntity lookAlike = folder("xsrc", null);
+        FolderEntity lookAlikeChild = folder("c!d", lookAlike);
+        em.flush();
+
+        folderService.updateFolder(source.getId(), new FolderUpdateRequestDTO(null, destination.getId()), owner.getUuid());
+        em.flush();
+        em.clear();
+
+        assertEquals("/dest%/_src", pathOf(source));
+        assertEquals("/dest%/_src/c!d", pathOf(child));
+        assertEquals("/xsrc/c!d", pathOf(lookAlikeChild));
+    }
+
+    @Test
+    void deleteRemovesWholeSubtreeAndItsContractLinks() {
+        FolderEntity target = folder("del", null);
+        FolderEntity child = folder("child", target);
+        FolderEntity grandChild = folder("grand", child);
+        FolderEntity sibling = folder("keep", null);
+        ContractEntity inChild = em.persist(new ContractEntity("in-child", "d", owner, ContractStatus.OPEN));
+        ContractEntity inGrandChild = em.persist(new ContractEntity("in-grand", "d", owner, ContractStatus.OPEN));
+        ContractEntity inSibling = em.persist(new ContractEntity("in-sibling", "d", owner, ContractStatus.OPEN));
+        em.persist(new FolderContractEntity(child, inChild));
+        em.persist(new FolderContractEntity(grandChild, inGrandChild));
+        em.persist(new FolderContractEntity(sibling, inSibling));
+        em.flush();
+
+        folderService.deleteFolder(target.getId(), owner.getUuid());
+        em.flush();
+        em.clear();
+
+        assertNotNull(deletedAtOf(target));
+        assertNotNull(deletedAtOf(child));
+        assertNotNull(deletedAtOf(grandChild));
+        assertNull(deletedAtOf(sibling));
+        assertEquals(0, linkCount(child));
+        assertEquals(0, linkCount(grandChild));
+        assertEquals(1, linkCount(sibling));
+    }
+
+    private FolderEntity folder(String name, FolderEntity parent) {
+        FolderEntity folder = new FolderEntity(name, (parent != null ? parent.getPath() : "") + "/" + name, owner);
+        folder.setParent(parent);
+        return em.persist(folder);
+    }
+
+    private String pathOf(FolderEntity folder) {
+        return em.find(FolderEntity.class, folder.getId()).getPath();
+    }
+
+    private Object deletedAtOf(FolderEntity folder) {
+        return em.find(FolderEntity.class, folder.getId()).getDeletedAt();
+    }
+
+    private long linkCount(FolderEntity folder) {
+        return em.getEntityManager()
+                .createQuery("SELECT COUNT(fc) FROM FolderContractEntity fc WHERE fc.folder.id = :folderId", Long.class)
+                .setParameter("folderId", folder.getId())
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,111 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.ContractEntity;
+import com.contract.backend.common.Entity.FolderContractEntity;
+import com.contract.backend.common.Entity.FolderEntity;
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.dto.FolderResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 폴더 트리를 평면 목록 한 번과 계약 수 집계 한 번으로 조립하는지 확인합니다. (H2)
+ * 삭제된 폴더/계약과 다른 사용자의 폴더는 트리와 계약 수에 포함되지 않아야 합니다.
+ */
+@DataJpaTest
+@Import(FolderService.class)
+class FolderTreeTest {
+
+    @Autowired
+    private FolderService folderService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private UserEntity owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = em.persist(new UserEntity("tree-owner", "tree-owner@example.com", "password"));
+    }
+
+    @Test
+    void treeNestsChildrenAndCountsLiveContracts() {
+        FolderEntity a = folder("a", null, owner);
+        FolderEntity b = folder("b", a, owner);
+        FolderEntity c = folder("c", b, owner);
+        folder("d", a, owner);
+        FolderEntity z = folder("z", null, owner);
+        folder("x", a, owner).setDeletedAt(LocalDateTime.now());
+        UserEntity other = em.persist(new UserEntity("tree-other", "tree-other@example.com", "password"));
+        folder("other-root", null, other);
+
+        link(b, contract("b-1"));
+        link(b, contract("b-2"));
+        ContractEntity deleted = contract("b-deleted");
+        deleted.setDeletedAt(LocalDateTime.now());
+        link(b, deleted);
+        link(z, contract("z-1"));
+        em.flush();
+        em.clear();
+
+        List<FolderResponseDTO> roots = folderService.getFolderTree(owner.getUuid());
+
+        assertEquals(List.of("a", "z"), names(roots));
+        FolderResponseDTO rootA = roots.get(0);
+        assertNull(rootA.getParentName());
+        assertEquals(List.of("b", "d"), names(rootA.getChildren()));
+        assertEquals(2, rootA.getChildrenCount());
+        assertEquals(0, rootA.getContractsCount());
+        assertEquals(owner.getId(), rootA.getCreatedBy().getId());
+
+        FolderResponseDTO childB = rootA.getChildren().get(0);
+        assertEquals("a", childB.getParentName());
+        assertEquals(2, childB.getContractsCount());
+        assertEquals(List.of("c"), names(childB.getChildren()));
+        assertEquals(c.getId(), childB.getChildren().get(0).getId());
+        assertEquals("b", childB.getChildren().get(0).getParentName());
+
+        assertEquals(0, rootA.getChildren().get(1).getChildren().size());
+        assertEquals(1, roots.get(1).getContractsCount());
+    }
+
+    @Test
+    void userWithoutFoldersGetsEmptyTree() {
+        assertEquals(List.of(), folderService.getFolderTree(owner.getUuid()));
+    }
+
+    private FolderEntity folder(String name, FolderEntity parent, UserEntity createdBy) {
+        FolderEntity folder = new FolderEntity(name, (parent != null ? parent.getPath() : "") + "/" + name, createdBy);
+        folder.setParent(parent);
+        return em.persist(folder);
+    }
+
+    private ContractEntity contract(String title) {
+        return em.persist(new ContractEntity(title, "description", owner, ContractStatus.OPEN));
+    }
+
+    private void link(FolderEntity folder, ContractEntity contract) {
+        em.persist(new FolderContractEntity(folder, contract));
+    }
+
+    private static List<String> names(List<FolderResponseDTO> folders) {
+        List<String> names = new ArrayList<>();
+        for (FolderResponseDTO folder : folders) {
+            names.add(folder.getName());
+        }
+        return names;
+    }
+}
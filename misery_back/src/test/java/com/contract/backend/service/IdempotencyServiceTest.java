@@ -0,0 +1,95 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.UserEntity;
+import com.contract.backend.common.exception.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Idempotency-Key 처리: 완료된 키는 저장된 응답을 재생하고, 처리 중인 키는 409, 다른 요청에 재사용한 키는 422.
+ * 예약/완료를 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행합니다. (H2)
+ */
+@DataJpaTest
+@Import(IdempotencyService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyServiceTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void createUser() {
+        String name = "idem-" + UUID.randomUUID();
+        user = new TransactionTemplate(transactionManager).execute(status ->
+                em.persist(new UserEntity(name, name + "@example.com", "password")));
+    }
+
+    @Test
+    void completedKeyReplaysStoredResponseWithoutRunningAgain() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+
+        String first = idempotencyService.execute(user, "key-1", "sign:1",
+                () -> Map.of("execution", executions.incrementAndGet()));
+        String replayed = idempotencyService.execute(user, "key-1", "sign:1",
+                () -> Map.of("execution", executions.incrementAndGet()));
+
+        assertEquals(1, executions.get());
+        assertEquals(first, replayed);
+    }
+
+    @Test
+    void keyInProgressIsRejectedWithConflict() throws Exception {
+        idempotencyService.execute(user, "key-2", "sign:2", () -> {
+            CustomException duplicate = assertThrows(CustomException.class,
+                    () -> idempotencyService.execute(user, "key-2", "sign:2", () -> "second"));
+            assertEquals(HttpStatus.CONFLICT, duplicate.getStatus());
+            return "first";
+        });
+    }
+
+    @Test
+    void keyReusedForDifferentRequestIsRejected() throws Exception {
+        idempotencyService.execute(user, "key-3", "sign:3", () -> "done");
+
+        CustomException reused = assertThrows(CustomException.class,
+                () -> idempotencyService.execute(user, "key-3", "sign:4", () -> "other"));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatus());
+    }
+
+    @Test
+    void failedExecutionReleasesKeyForRetry() throws Exception {
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute(user, "key-4", "sign:5", () -> {
+            throw new IllegalStateException("ledger unavailable");
+        }));
+
+        String retried = idempotencyService.execute(user, "key-4", "sign:5", () -> "retried");
+        assertEquals("\"retried\"", retried);
+    }
+}
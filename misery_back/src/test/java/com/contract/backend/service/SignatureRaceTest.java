@@ -0,0 +1,102 @@
+package com.contract.backend.service;
+
+import com.contract.backend.common.Entity.*;
+import com.contract.backend.common.Entity.enumm.ContractStatus;
+import com.contract.backend.common.Entity.enumm.PartyRole;
+import com.contract.backend.common.Entity.enumm.VersionStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 마지막 두 서명자가 동시에 서명해도 완료 전환과 원장 기록 요청이 정확히 한 번만 일어나는지 확인합니다. (H2)
+ * 각 서명이 별도 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import(SignatureService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SignatureRaceTest {
+
+    @Autowired
+    private SignatureService signatureService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ContractAnchoringService anchoringService;
+
+    @MockitoBean
+    private UserContractIndexService userContractIndexService;
+
+    @Test
+    void lastTwoConcurrentSignersFinalizeExactlyOnce() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<UserEntity> signers = new ArrayList<>();
+        ContractVersionEntity version = tx.execute(status -> {
+            UserEntity initiator = em.persist(new UserEntity("race-initiator", "race-initiator@example.com", "password"));
+            for (int i = 0; i < 2; i++) {
+                signers.add(em.persist(new UserEntity("race-signer-" + i, "race-signer-" + i + "@example.com", "password")));
+            }
+            ContractEntity contract = em.persist(new ContractEntity("title", "description", initiator, ContractStatus.OPEN));
+            em.persist(new ContractPartyEntity(contract, initiator, PartyRole.INITIATOR));
+            for (UserEntity signer : signers) {
+                em.persist(new ContractPartyEntity(contract, signer, PartyRole.COUNTERPARTY));
+            }
+            // 작성자는 이미 서명, 남은 두 명이 동시에 서명
+            ContractVersionEntity current = em.persist(new ContractVersionEntity(contract, 1, "path/1", "hash-1", VersionStatus.PENDING_SIGNATURE));
+            em.persist(new SignatureEntity(current, initiator, "sig-initiator"));
+            current.setRequiredSignerCount(3);
+            current.setCollectedSignerCount(1);
+            contract.setCurrentVersion(current);
+            return current;
+        });
+        Long contractId = version.getContract().getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(signers.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<SignatureEntity>> results = new ArrayList<>();
+            for (UserEntity signer : signers) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return signatureService.signContract(contractId, signer);
+                }));
+            }
+            start.countDown();
+            for (Future<SignatureEntity> result : results) {
+                result.get(30, TimeUnit.SECONDS); // 두 서명 모두 성공해야 함
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(anchoringService, times(1)).anchorAfterCommit(anyCollection());
+        verify(anchoringService).anchorAfterCommit(List.of(version.getId()));
+        tx.executeWithoutResult(status -> {
+            ContractVersionEntity signed = em.find(ContractVersionEntity.class, version.getId());
+            assertEquals(VersionStatus.SIGNED, signed.getStatus());
+            assertEquals(3, signed.getCollectedSignerCount());
+            assertEquals(ContractStatus.CLOSED, em.find(ContractEntity.class, contractId).getStatus());
+        });
+    }
+}